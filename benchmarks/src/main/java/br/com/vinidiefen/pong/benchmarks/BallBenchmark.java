@@ -0,0 +1,67 @@
+package br.com.vinidiefen.pong.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.vinidiefen.pong.constants.GameConstants;
+import br.com.vinidiefen.pong.core.engine.Arena;
+import br.com.vinidiefen.pong.domain.entities.Ball;
+import br.com.vinidiefen.pong.domain.entities.Paddle;
+
+/**
+ * Ball movement and paddle bounce
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class BallBenchmark {
+
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+
+    private Ball ball;
+    private Paddle paddle;
+
+    @Setup
+    public void setUp() {
+        Arena arena = new Arena(WIDTH, HEIGHT);
+        ball = new Ball(WIDTH / 2, HEIGHT / 2, new SplittableRandom(42L));
+        ball.setArena(arena);
+        paddle = new Paddle(GameConstants.PADDLE_MARGIN, HEIGHT / 2, 0, 0);
+        paddle.setArena(arena);
+    }
+
+    @Benchmark
+    public int update() {
+        // Serve again when the ball leaves the field so positions stay bounded
+        if (ball.isOffLeft() || ball.isOffRight()) {
+            ball.reset();
+        }
+        ball.update();
+        return ball.getX();
+    }
+
+    @Benchmark
+    public int onCollision() {
+        // Restore the incoming velocity, otherwise every hit speeds the ball up
+        ball.setVelocityX(-GameConstants.BALL_INITIAL_SPEED);
+        ball.setVelocityY(GameConstants.BALL_INITIAL_SPEED);
+        ball.onCollision(paddle);
+        return ball.getVelocityX();
+    }
+
+}
@@ -0,0 +1,88 @@
+package br.com.vinidiefen.pong.benchmarks;
+
+import java.awt.Rectangle;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.vinidiefen.pong.constants.GameConstants;
+import br.com.vinidiefen.pong.core.collision.CollisionDetector;
+import br.com.vinidiefen.pong.core.engine.Arena;
+import br.com.vinidiefen.pong.domain.entities.Ball;
+import br.com.vinidiefen.pong.domain.entities.Paddle;
+
+/**
+ * Collision detection between the ball and both paddles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+
+    private Ball ball;
+    private Paddle leftPaddle;
+    private CollisionDetector collisionDetector;
+    private int hitX;
+
+    @Setup
+    public void setUp() {
+        Arena arena = new Arena(WIDTH, HEIGHT);
+        leftPaddle = new Paddle(GameConstants.PADDLE_MARGIN, HEIGHT / 2, 0, 0);
+        Paddle rightPaddle = new Paddle(WIDTH - GameConstants.PADDLE_MARGIN - GameConstants.PADDLE_WIDTH,
+                HEIGHT / 2, 0, 0);
+        ball = new Ball(WIDTH / 2, HEIGHT / 2, new SplittableRandom(42L));
+        leftPaddle.setArena(arena);
+        rightPaddle.setArena(arena);
+        ball.setArena(arena);
+
+        collisionDetector = new CollisionDetector();
+        collisionDetector.addCollisionObserver(ball, leftPaddle, rightPaddle);
+        hitX = leftPaddle.getX() + leftPaddle.getWidth() / 2;
+    }
+
+    /**
+     * Common case: the ball is in mid-field and touches nothing
+     */
+    @Benchmark
+    public int checkCollisionMiss() {
+        ball.setX(WIDTH / 2);
+        ball.setY(HEIGHT / 2);
+        collisionDetector.checkCollision();
+        return ball.getX();
+    }
+
+    /**
+     * The ball overlaps the left paddle and gets bounced back
+     */
+    @Benchmark
+    public int checkCollisionHit() {
+        ball.setX(hitX);
+        ball.setY(leftPaddle.getY());
+        ball.setVelocityX(-GameConstants.BALL_INITIAL_SPEED);
+        ball.setVelocityY(GameConstants.BALL_INITIAL_SPEED);
+        collisionDetector.checkCollision();
+        return ball.getX();
+    }
+
+    @Benchmark
+    public Rectangle getBounds() {
+        return ball.getBounds();
+    }
+
+}
@@ -0,0 +1,74 @@
+package br.com.vinidiefen.pong.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.vinidiefen.pong.Main;
+import br.com.vinidiefen.pong.constants.GameMode;
+import br.com.vinidiefen.pong.core.engine.GameWorld;
+import br.com.vinidiefen.pong.core.engine.ManualClock;
+import br.com.vinidiefen.pong.core.simulation.PaddleControllers;
+import br.com.vinidiefen.pong.infrastructure.ui.rendering.OffscreenRenderer;
+
+/**
+ * Full frames drawn offscreen by the game's renderer while a match runs;
+ * the score is frames per second at each resolution (no display needed)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class FrameRenderBenchmark {
+
+    @Param({ "1280x720", "1920x1080", "3840x2160" })
+    private String resolution;
+
+    @Param({ "CLASSIC", "MULTI_BALL" })
+    private GameMode mode;
+
+    private GameWorld world;
+    private OffscreenRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        // Same score font as the game
+        Main.configureDefaultFont();
+        String[] size = resolution.split("x");
+        world = new GameWorld(Integer.parseInt(size[0]), Integer.parseInt(size[1]), new ManualClock(), mode, 42L);
+        world.setControllers(PaddleControllers.tracking(25), PaddleControllers.tracking(25));
+        renderer = new OffscreenRenderer(world);
+    }
+
+    @TearDown
+    public void tearDown() {
+        renderer.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage frame() {
+        // Clear the score once someone wins so the scene stays the same; the
+        // ball was already served again, and the renderer, its image and the
+        // font stay out of the measured path
+        if (world.hasWinner()) {
+            world.getScoreManager().reset();
+        }
+        world.tick();
+        return renderer.render();
+    }
+
+}
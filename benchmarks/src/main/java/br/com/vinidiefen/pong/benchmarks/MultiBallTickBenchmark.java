@@ -0,0 +1,52 @@
+package br.com.vinidiefen.pong.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.vinidiefen.pong.constants.GameMode;
+import br.com.vinidiefen.pong.core.engine.GameWorld;
+import br.com.vinidiefen.pong.core.engine.ManualClock;
+import br.com.vinidiefen.pong.core.simulation.PaddleControllers;
+
+/**
+ * One tick of the multi-ball mode (GameConstants.MULTI_BALL_COUNT extra
+ * balls); it has to stay well below the 16.6 ms budget of 60 ticks/s
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class MultiBallTickBenchmark {
+
+    private GameWorld world;
+
+    @Setup
+    public void setUp() {
+        world = new GameWorld(1920, 1080, new ManualClock(), GameMode.MULTI_BALL, 42L);
+        world.setControllers(PaddleControllers.tracking(25), PaddleControllers.tracking(25));
+    }
+
+    @Benchmark
+    public long tick() {
+        // Clear the score once someone wins instead of building a new world,
+        // which would respawn the whole swarm inside the measured path
+        if (world.hasWinner()) {
+            world.getScoreManager().reset();
+        }
+        world.tick();
+        return world.getTickCount();
+    }
+
+}
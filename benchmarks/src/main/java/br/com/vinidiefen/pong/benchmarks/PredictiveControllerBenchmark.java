@@ -0,0 +1,55 @@
+package br.com.vinidiefen.pong.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.vinidiefen.pong.core.engine.GameWorld;
+import br.com.vinidiefen.pong.core.engine.ManualClock;
+import br.com.vinidiefen.pong.core.simulation.AiDifficulty;
+import br.com.vinidiefen.pong.core.simulation.PaddleControllers;
+
+/**
+ * A full tick of a match between two predictive AI players, so the cost of
+ * solving and following predictions can be compared with WorldTickBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class PredictiveControllerBenchmark {
+
+    @Param({ "EASY", "PERFECT" })
+    private AiDifficulty difficulty;
+
+    private GameWorld world;
+
+    @Setup
+    public void setUp() {
+        world = new GameWorld(1920, 1080, new ManualClock(), 42L);
+        world.setControllers(PaddleControllers.predictive(difficulty, 1L),
+                PaddleControllers.predictive(difficulty, 2L));
+    }
+
+    @Benchmark
+    public long tick() {
+        if (world.hasWinner()) {
+            setUp();
+        }
+        world.tick();
+        return world.getTickCount();
+    }
+
+}
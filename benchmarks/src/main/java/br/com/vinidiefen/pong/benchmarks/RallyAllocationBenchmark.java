@@ -0,0 +1,84 @@
+package br.com.vinidiefen.pong.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.vinidiefen.pong.constants.GameConstants;
+import br.com.vinidiefen.pong.core.collision.CollisionDetector;
+import br.com.vinidiefen.pong.core.engine.Arena;
+import br.com.vinidiefen.pong.domain.entities.Ball;
+import br.com.vinidiefen.pong.domain.entities.Paddle;
+
+/**
+ * Steady-state movement and collision of an endless rally: the paddles always
+ * meet the ball, so every hit goes through the full collision path. The
+ * expected allocation rate (gc.alloc.rate.norm) is 0 B/op.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class RallyAllocationBenchmark {
+
+    private static final int WIDTH = 1280;
+    private static final int HEIGHT = 720;
+
+    // Hits speed the ball up; serve again before it crosses the field per tick
+    private static final int MAX_SPEED = 200;
+
+    private Ball ball;
+    private Paddle leftPaddle;
+    private Paddle rightPaddle;
+    private CollisionDetector collisionDetector;
+
+    @Setup
+    public void setUp() {
+        Arena arena = new Arena(WIDTH, HEIGHT);
+        leftPaddle = new Paddle(GameConstants.PADDLE_MARGIN, HEIGHT / 2, 0, 0);
+        rightPaddle = new Paddle(WIDTH - GameConstants.PADDLE_MARGIN - GameConstants.PADDLE_WIDTH,
+                HEIGHT / 2, 0, 0);
+        ball = new Ball(WIDTH / 2, HEIGHT / 2, new SplittableRandom(42L));
+        leftPaddle.setArena(arena);
+        rightPaddle.setArena(arena);
+        ball.setArena(arena);
+
+        collisionDetector = new CollisionDetector();
+        collisionDetector.addCollisionObserver(ball, leftPaddle, rightPaddle);
+    }
+
+    @Benchmark
+    public int tick() {
+        if (Math.abs(ball.getVelocityX()) > MAX_SPEED || ball.isOffLeft() || ball.isOffRight()) {
+            ball.reset();
+        }
+
+        // Perfect players: center both paddles on the ball
+        int paddleY = ball.getY() + (ball.getHeight() - leftPaddle.getHeight()) / 2;
+        leftPaddle.setY(paddleY);
+        rightPaddle.setY(paddleY);
+
+        leftPaddle.syncPreviousPosition();
+        rightPaddle.syncPreviousPosition();
+        ball.syncPreviousPosition();
+
+        leftPaddle.update();
+        rightPaddle.update();
+        ball.update();
+        collisionDetector.checkCollision();
+        return ball.getX();
+    }
+
+}
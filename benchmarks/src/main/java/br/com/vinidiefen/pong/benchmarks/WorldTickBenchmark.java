@@ -0,0 +1,49 @@
+package br.com.vinidiefen.pong.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.vinidiefen.pong.core.engine.GameWorld;
+import br.com.vinidiefen.pong.core.engine.ManualClock;
+import br.com.vinidiefen.pong.core.simulation.PaddleControllers;
+
+/**
+ * One full simulation tick (what GamePanel.updateComponents does per frame)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class WorldTickBenchmark {
+
+    private GameWorld world;
+
+    @Setup
+    public void setUp() {
+        world = new GameWorld(1920, 1080, new ManualClock(), 42L);
+        world.setControllers(PaddleControllers.tracking(25), PaddleControllers.tracking(25));
+    }
+
+    @Benchmark
+    public long tick() {
+        // Start a fresh match once someone wins so the workload stays steady
+        if (world.hasWinner()) {
+            setUp();
+        }
+        world.tick();
+        return world.getTickCount();
+    }
+
+}
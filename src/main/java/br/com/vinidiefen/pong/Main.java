@@ -31,7 +31,7 @@ public class Main {
     /**
      * Configure custom font for UI
      */
-    private static void configureDefaultFont() {
+    public static void configureDefaultFont() {
         Optional<Font> customFontOptional = loadFont();
         customFontOptional.ifPresent(font -> UIManager.put("Label.font", font.deriveFont(24f)));
     }
@@ -1,5 +1,6 @@
 package br.com.vinidiefen.pong.application.services;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,6 +13,10 @@ import br.com.vinidiefen.pong.infrastructure.persistence.models.MatchModel;
 import br.com.vinidiefen.pong.infrastructure.persistence.models.PaddleModel;
 import br.com.vinidiefen.pong.infrastructure.persistence.models.ScoreManagerModel;
 import br.com.vinidiefen.pong.infrastructure.persistence.repositories.CRUDRepository;
+import br.com.vinidiefen.pong.infrastructure.persistence.repositories.JoinedEntity;
+import br.com.vinidiefen.pong.infrastructure.persistence.repositories.SortOrder;
+import br.com.vinidiefen.pong.infrastructure.persistence.repositories.UnitOfWork;
+import br.com.vinidiefen.pong.infrastructure.persistence.repositories.schema.SchemaManager;
 
 /**
  * Service class responsible for saving and loading game state
@@ -19,6 +24,12 @@ import br.com.vinidiefen.pong.infrastructure.persistence.repositories.CRUDReposi
  */
 public class GameStateService {
     
+    // Matches are listed and picked by save time
+    private static final String SAVED_AT_COLUMN = "saved_at";
+    
+    // Set once the tables have been created or upgraded in this process
+    private static boolean schemaReady;
+    
     private final CRUDRepository<PaddleModel> paddleRepo;
     private final CRUDRepository<BallModel> ballRepo;
     private final CRUDRepository<ScoreManagerModel> scoreRepo;
@@ -32,62 +43,90 @@ public class GameStateService {
     }
     
     /**
-     * Saves the current game state to the database
+     * Creates the tables, or adds the columns and indexes that a database
+     * created by an older version is missing, once per process. Retried on
+     * the next call if a statement failed
+     */
+    private static synchronized void ensureSchema() {
+        if (!schemaReady) {
+            schemaReady = new SchemaManager().createTables(PaddleModel.class, BallModel.class,
+                    ScoreManagerModel.class, MatchModel.class);
+        }
+    }
+    
+    /**
+     * Saves the current game state to the database in one transaction: either
+     * every row is written or none is
      */
     public UUID saveGameState(Paddle leftPaddle, Paddle rightPaddle, Ball ball, 
                               ScoreManager scoreManager) {
+        ensureSchema();
+        
         // Create model instances using factory methods
         PaddleModel leftPaddleModel = PaddleModel.from(leftPaddle);
         PaddleModel rightPaddleModel = PaddleModel.from(rightPaddle);
         BallModel ballModel = BallModel.from(ball);
         ScoreManagerModel scoreManagerModel = ScoreManagerModel.from(scoreManager, GameConstants.WINNING_SCORE);
         
-        // Save entities to database
-        paddleRepo.create(leftPaddleModel);
-        paddleRepo.create(rightPaddleModel);
-        ballRepo.create(ballModel);
-        scoreRepo.create(scoreManagerModel);
-        
-        // Create and save match
         MatchModel matchModel = new MatchModel(leftPaddleModel, rightPaddleModel, 
                                                ballModel, scoreManagerModel);
-        matchRepo.create(matchModel);
+
+        // One statement per table, referenced rows first
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            paddleRepo.createAll(List.of(leftPaddleModel, rightPaddleModel), unitOfWork);
+            ballRepo.create(ballModel, unitOfWork);
+            scoreRepo.create(scoreManagerModel, unitOfWork);
+            matchRepo.create(matchModel, unitOfWork);
+            unitOfWork.commit();
+        }
         
         return matchModel.getId();
     }
     
     /**
-     * Loads a specific game state by match ID
+     * Loads a specific game state by match ID, with the match and every
+     * related entity in a single query
      */
     public LoadedGameState loadGameState(UUID matchId) {
-        // Load the specific match
-        MatchModel match = matchRepo.read(matchId);
+        ensureSchema();
+        JoinedEntity<MatchModel> match = matchRepo.readWithReferences(matchId,
+                PaddleModel.class, BallModel.class, ScoreManagerModel.class);
         if (match == null) {
             throw new IllegalArgumentException("Match not found: " + matchId);
         }
         
-        // Load related entities
-        PaddleModel leftPaddleModel = paddleRepo.read(match.getLeftPaddleId());
-        PaddleModel rightPaddleModel = paddleRepo.read(match.getRightPaddleId());
-        BallModel ballModel = ballRepo.read(match.getBallId());
-        ScoreManagerModel scoreManagerModel = scoreRepo.read(match.getScoreManagerId());
-        
-        return new LoadedGameState(leftPaddleModel, rightPaddleModel, 
-                                  ballModel, scoreManagerModel);
+        return new LoadedGameState(match.getReference("left_paddle_id", PaddleModel.class),
+                                  match.getReference("right_paddle_id", PaddleModel.class),
+                                  match.getReference("ball_id", BallModel.class),
+                                  match.getReference("score_manager_id", ScoreManagerModel.class));
     }
     
     /**
-     * Gets all saved matches
+     * Gets the most recently saved match, or null if there is none
      */
-    public List<MatchModel> getAllMatches() {
-        return matchRepo.findAll();
+    public MatchModel getLatestMatch() {
+        ensureSchema();
+        List<MatchModel> latest = matchRepo.findLatest(SAVED_AT_COLUMN, 1);
+        return latest.isEmpty() ? null : latest.get(0);
     }
     
     /**
-     * Gets score information for a match
+     * Gets one page of saved matches with their scores in a single query,
+     * most recent first
+     * 
+     * @param after Last summary of the previous page, or null for the first
+     *              page
+     * @param limit Maximum number of summaries
      */
-    public ScoreManagerModel getScoreForMatch(UUID scoreManagerId) {
-        return scoreRepo.read(scoreManagerId);
+    public List<MatchSummary> getMatchSummaries(MatchSummary after, int limit) {
+        ensureSchema();
+        List<MatchSummary> summaries = new ArrayList<>();
+        for (JoinedEntity<MatchModel> match : matchRepo.findPageWithReferences(SAVED_AT_COLUMN,
+                SortOrder.DESCENDING, after == null ? null : after.getMatch(), limit, ScoreManagerModel.class)) {
+            summaries.add(new MatchSummary(match.getEntity(),
+                                           match.getReference("score_manager_id", ScoreManagerModel.class)));
+        }
+        return summaries;
     }
     
     /**
@@ -112,4 +151,22 @@ public class GameStateService {
         public BallModel getBall() { return ball; }
         public ScoreManagerModel getScoreManager() { return scoreManager; }
     }
+    
+    /**
+     * A saved match as listed for loading; the score is null if its row is
+     * missing
+     */
+    public static class MatchSummary {
+        private final MatchModel match;
+        private final ScoreManagerModel scoreManager;
+        
+        public MatchSummary(MatchModel match, ScoreManagerModel scoreManager) {
+            this.match = match;
+            this.scoreManager = scoreManager;
+        }
+        
+        public MatchModel getMatch() { return match; }
+        public UUID getMatchId() { return match.getId(); }
+        public ScoreManagerModel getScoreManager() { return scoreManager; }
+    }
 }
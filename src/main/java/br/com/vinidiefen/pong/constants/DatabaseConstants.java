@@ -0,0 +1,34 @@
+package br.com.vinidiefen.pong.constants;
+
+/**
+ * Database connection pool settings. Sizes can be overridden with the
+ * POSTGRES_POOL_MIN_SIZE and POSTGRES_POOL_MAX_SIZE environment variables.
+ */
+public final class DatabaseConstants {
+
+    private DatabaseConstants() {
+    }
+
+    // Idle connections kept open even when unused
+    public static final int POOL_MIN_SIZE = 1;
+    // Connections open at once; further borrowers wait
+    public static final int POOL_MAX_SIZE = 8;
+
+    // How long a borrower waits for a free connection
+    public static final long POOL_BORROW_TIMEOUT_MS = 5_000;
+    // Idle connections above the minimum are closed after this long
+    public static final long POOL_IDLE_TIMEOUT_MS = 5 * 60_000;
+    // How often idle connections are checked for eviction
+    public static final long POOL_EVICTION_INTERVAL_MS = 30_000;
+
+    // Connections idle for longer than this are validated before use
+    public static final long POOL_VALIDATION_INTERVAL_MS = 1_000;
+    public static final int POOL_VALIDATION_TIMEOUT_SECONDS = 2;
+
+    // Bind parameters in one statement (the PostgreSQL protocol allows 65535)
+    public static final int MAX_STATEMENT_PARAMETERS = 32_767;
+
+    // Rows fetched per round trip while streaming a query
+    public static final int STREAM_FETCH_SIZE = 500;
+
+}
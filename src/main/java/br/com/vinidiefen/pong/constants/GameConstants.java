@@ -11,6 +11,7 @@ public final class GameConstants {
     // Game settings
     public static final int WINNING_SCORE = 5;
     public static final int TARGET_FPS = 60;
+    public static final int MAX_RENDER_FPS = 60;
 
     // Paddle settings
     public static final int PADDLE_WIDTH = 20;
@@ -23,11 +24,20 @@ public final class GameConstants {
     public static final int BALL_INITIAL_SPEED = 4;
     public static final int BALL_SPEED_INCREMENT = 1;
 
+    // Multi-ball mode settings
+    public static final int MULTI_BALL_COUNT = 10_000;
+    public static final int MULTI_BALL_SIZE = 6;
+    public static final float MULTI_BALL_MIN_SPEED = 1.5f;
+    public static final float MULTI_BALL_MAX_SPEED = 6f;
+
     // Shortcuts are centralized in InputConstants
 
     // Field settings
     public static final int FIELD_LINE_WIDTH = 3;
 
     // Engine behavior
-    public static final int GAME_LOOP_SLEEP_MS = 1;
+    public static final long PACER_SPIN_THRESHOLD_NS = 250_000;
+    public static final int MAX_CATCH_UP_TICKS = 5;
+    public static final int COLLISION_CELL_SIZE = 32;
+    public static final int BROAD_PHASE_MIN_ENTITIES = 16;
 }
@@ -0,0 +1,32 @@
+package br.com.vinidiefen.pong.constants;
+
+/**
+ * Game modes offered by the menu
+ */
+public enum GameMode {
+    CLASSIC(0, false),
+    SINGLE_PLAYER(0, true),
+    MULTI_BALL(GameConstants.MULTI_BALL_COUNT, false);
+
+    private final int extraBalls;
+    private final boolean computerOpponent;
+
+    GameMode(int extraBalls, boolean computerOpponent) {
+        this.extraBalls = extraBalls;
+        this.computerOpponent = computerOpponent;
+    }
+
+    /**
+     * @return Balls bouncing around besides the match ball
+     */
+    public int getExtraBalls() {
+        return extraBalls;
+    }
+
+    /**
+     * @return true if the right paddle is played by the computer
+     */
+    public boolean hasComputerOpponent() {
+        return computerOpponent;
+    }
+}
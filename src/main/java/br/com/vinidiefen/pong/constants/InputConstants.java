@@ -12,6 +12,10 @@ public final class InputConstants {
 
     // Global
     public static final int EXIT_KEY = KeyEvent.VK_ESCAPE;
+    public static final int PERFORMANCE_OVERLAY_KEY = KeyEvent.VK_F3;
+
+    // Pending key events between the event dispatch thread and the game loop
+    public static final int INPUT_QUEUE_CAPACITY = 256;
 
     // Left paddle keys
     public static final int LEFT_PADDLE_UP = KeyEvent.VK_W;
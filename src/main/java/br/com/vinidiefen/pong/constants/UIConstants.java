@@ -43,10 +43,31 @@ public final class UIConstants {
     
     // Score rendering positions
     public static final int SCORE_TEXT_Y = 60;
+    // Top band repainted when a score changes (baseline plus descent)
+    public static final int SCORE_AREA_HEIGHT = SCORE_TEXT_Y + (int) (SCORE_FONT_SIZE / 2);
+
+    // Saved games fetched per page in the load dialog
+    public static final int SAVE_LIST_PAGE_SIZE = 50;
+    // Next page is fetched when the list is scrolled this close to its end (pixels)
+    public static final int SAVE_LIST_PREFETCH_DISTANCE = 100;
 
     // Game over UI
     public static final int GAME_OVER_INSTRUCTION_OFFSET = 60;
 
+    // Rendering mode: -Dpong.activeRendering=true presents frames from the
+    // game loop through a BufferStrategy instead of Swing repaint()
+    public static final boolean ACTIVE_RENDERING = Boolean.getBoolean("pong.activeRendering");
+
+    // Above this share of the panel, dirty regions are dropped for one full repaint
+    public static final double DIRTY_REPAINT_MAX_COVERAGE = 0.5;
+
+    // Performance overlay
+    public static final Color HUD_BACKGROUND = new Color(0, 0, 0, 180);
+    public static final Color HUD_TEXT_COLOR = new Color(100, 200, 100);
+    public static final int HUD_FONT_SIZE = 14;
+    public static final int HUD_PADDING = 10;
+    public static final int HUD_REFRESH_MS = 500;
+
     // Field line dashing pattern
     public static final float[] FIELD_LINE_DASH_PATTERN = { 10f, 10f };
     
@@ -57,6 +78,8 @@ public final class UIConstants {
     public static final String BTN_LOAD = "LOAD";
     public static final String BTN_JOGAR = "JOGAR";
     public static final String BTN_CARREGAR = "CARREGAR";
+    public static final String BTN_MULTIBOLA = "MULTIBOLA";
+    public static final String BTN_UM_JOGADOR = "1 JOGADOR";
     public static final String BTN_SAIR = "SAIR";
     
     // Button feedback messages
@@ -1,20 +1,65 @@
 package br.com.vinidiefen.pong.core.collision;
 
-import java.awt.Rectangle;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
+import br.com.vinidiefen.pong.constants.GameConstants;
+import br.com.vinidiefen.pong.domain.entities.BallSwarm;
 import br.com.vinidiefen.pong.domain.entities.GameObject;
 
 /**
- * Handles collision detection between game entities.
+ * Handles collision detection between game entities. Movement during the
+ * tick is swept, so fast objects are caught even if they pass through.
+ *
+ * A {@link SpatialHash} broad phase keeps the cost near-linear: only entities
+ * sharing a grid cell are tested. It covers the registered observers and
+ * their collidables (ball against paddles or obstacles) and, when a
+ * {@link BallSwarm} is attached, its balls against each other and against
+ * every collidable. Scenes smaller than
+ * {@link GameConstants#BROAD_PHASE_MIN_ENTITIES} skip it and test every pair,
+ * which is cheaper than keeping the grid up to date for a handful of boxes.
+ *
+ * Registrations are compared by identity and everything is kept in plain
+ * arrays, so a tick is deterministic and allocates nothing.
  */
 public class CollisionDetector {
-    private final Map<CollisionObserver, List<GameObject>> collisionMap = new HashMap<>();
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int NOT_AN_OBSERVER = -1;
+
+    private final int cellSize;
+
+    private CollisionObserver[] observers = new CollisionObserver[INITIAL_CAPACITY];
+    private GameObject[][] collidables = new GameObject[INITIAL_CAPACITY][];
+    private int[] collidableCounts = new int[INITIAL_CAPACITY];
+    private int observerCount;
+
+    // Entities in the broad phase: their index is their id in the hash
+    private GameObject[] objects = new GameObject[INITIAL_CAPACITY];
+    private int[] observerIndexes = new int[INITIAL_CAPACITY];
+    private boolean[] collidableFlags = new boolean[INITIAL_CAPACITY];
+    private int objectCount;
+
+    // Swarm balls follow the objects in the id space
+    private BallSwarm ballSwarm;
+
+    // Rebuilt on the next check after a registration changes the ids
+    private SpatialHash spatialHash;
+    private final SpatialHash.PairVisitor pairVisitor = this::checkPair;
+
+    public CollisionDetector() {
+        this(GameConstants.COLLISION_CELL_SIZE);
+    }
+
+    /**
+     * @param cellSize Side of a broad phase grid cell in pixels
+     */
+    public CollisionDetector(int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
 
     /**
      * Add a CollisionObserver with the GameObjects to check collision against
@@ -28,41 +73,171 @@ public class CollisionDetector {
             return;
         }
 
-        List<GameObject> collidables = collisionMap.computeIfAbsent(observer, key -> new ArrayList<>());
-        Arrays.stream(collidableObjects)
-                .filter(Objects::nonNull)
-                .filter(obj -> !collidables.contains(obj))
-                .forEach(collidables::add);
+        int index = indexOf(observer);
+        if (index < 0) {
+            index = addObserver(observer);
+        }
+
+        for (GameObject obj : collidableObjects) {
+            if (obj != null && !containsCollidable(index, obj)) {
+                addCollidable(index, obj);
+                // objectId may grow the arrays, so it must run before they are read
+                int id = objectId(obj);
+                collidableFlags[id] = true;
+            }
+        }
     }
-    
+
     /**
-     * Check if some of the game objects collide
+     * Also collide the balls of a swarm with each other and with every
+     * registered collidable
      *
-     * @return true if collision detected
+     * @param ballSwarm The swarm, or null to detach it
+     */
+    public void setBallSwarm(BallSwarm ballSwarm) {
+        this.ballSwarm = ballSwarm;
+        spatialHash = null;
+    }
+
+    /**
+     * Check if some of the game objects collide, notifying the observers
      */
     public void checkCollision() {
-        for (Map.Entry<CollisionObserver, List<GameObject>> entry : collisionMap.entrySet()) {
-            CollisionObserver observer = entry.getKey();
-            for (GameObject obj2 : entry.getValue()) {
-                if (checkCollision(observer, obj2)) {
-                    observer.onCollision(obj2);
+        int swarmCount = ballSwarm != null ? ballSwarm.getCount() : 0;
+        int entityCount = objectCount + swarmCount;
+        if (entityCount < GameConstants.BROAD_PHASE_MIN_ENTITIES) {
+            for (int a = 0; a < entityCount; a++) {
+                for (int b = a + 1; b < entityCount; b++) {
+                    checkPair(a, b);
                 }
             }
+            return;
+        }
+
+        if (spatialHash == null) {
+            spatialHash = new SpatialHash(cellSize, entityCount);
+        }
+
+        // File every entity under the area it swept during the tick
+        for (int id = 0; id < objectCount; id++) {
+            GameObject obj = objects[id];
+            spatialHash.update(id,
+                    Math.min(obj.getPreviousX(), obj.getX()),
+                    Math.min(obj.getPreviousY(), obj.getY()),
+                    Math.max(obj.getPreviousX(), obj.getX()) + obj.getWidth(),
+                    Math.max(obj.getPreviousY(), obj.getY()) + obj.getHeight());
+        }
+        for (int i = 0; i < swarmCount; i++) {
+            int size = ballSwarm.getSize(i);
+            spatialHash.update(objectCount + i,
+                    Math.min(ballSwarm.getPreviousX(i), ballSwarm.getX(i)),
+                    Math.min(ballSwarm.getPreviousY(i), ballSwarm.getY(i)),
+                    Math.max(ballSwarm.getPreviousX(i), ballSwarm.getX(i)) + size,
+                    Math.max(ballSwarm.getPreviousY(i), ballSwarm.getY(i)) + size);
+        }
+
+        spatialHash.forEachPair(pairVisitor);
+    }
+
+    /**
+     * Narrow phase of a candidate pair (a < b)
+     */
+    private void checkPair(int a, int b) {
+        if (b < objectCount) {
+            checkObservation(a, b);
+            checkObservation(b, a);
+        } else if (a < objectCount) {
+            if (collidableFlags[a]) {
+                GameObject obj = objects[a];
+                ballSwarm.bounceOff(b - objectCount, obj.getX(), obj.getY(),
+                        obj.getX() + obj.getWidth(), obj.getY() + obj.getHeight());
+            }
+        } else {
+            ballSwarm.collide(a - objectCount, b - objectCount);
         }
     }
 
     /**
-     * Check if a CollisionObserver collides with a GameObject
+     * Sweep an observer against an entity, if it registered interest in it
      */
-    private boolean checkCollision(CollisionObserver observer, GameObject gameObject2) {
-        if (!(observer instanceof GameObject) || gameObject2 == null) {
-            return false;
+    private void checkObservation(int observerId, int otherId) {
+        int index = observerIndexes[observerId];
+        if (index == NOT_AN_OBSERVER || !containsCollidable(index, objects[otherId])) {
+            return;
+        }
+        int timeOfImpact = SweptCollision.timeOfImpact(objects[observerId], objects[otherId]);
+        if (timeOfImpact != SweptCollision.NO_HIT) {
+            observers[index].onCollision(objects[otherId], timeOfImpact);
         }
+    }
 
-        Rectangle gameObject1Bounds = ((GameObject) observer).getBounds();
-        Rectangle gameObject2Bounds = gameObject2.getBounds();
+    private int indexOf(CollisionObserver observer) {
+        for (int i = 0; i < observerCount; i++) {
+            if (observers[i] == observer) {
+                return i;
+            }
+        }
+        return -1;
+    }
 
-        return gameObject1Bounds.intersects(gameObject2Bounds);
+    private int addObserver(CollisionObserver observer) {
+        if (observerCount == observers.length) {
+            int capacity = observers.length * 2;
+            observers = Arrays.copyOf(observers, capacity);
+            collidables = Arrays.copyOf(collidables, capacity);
+            collidableCounts = Arrays.copyOf(collidableCounts, capacity);
+        }
+        observers[observerCount] = observer;
+        collidables[observerCount] = new GameObject[INITIAL_CAPACITY];
+
+        // Only observers with a position can be placed in the broad phase
+        if (observer instanceof GameObject) {
+            int id = objectId((GameObject) observer);
+            observerIndexes[id] = observerCount;
+        }
+        return observerCount++;
+    }
+
+    /**
+     * Id of an entity in the broad phase, registering it if needed
+     */
+    private int objectId(GameObject obj) {
+        for (int id = 0; id < objectCount; id++) {
+            if (objects[id] == obj) {
+                return id;
+            }
+        }
+        if (objectCount == objects.length) {
+            int capacity = objects.length * 2;
+            objects = Arrays.copyOf(objects, capacity);
+            observerIndexes = Arrays.copyOf(observerIndexes, capacity);
+            collidableFlags = Arrays.copyOf(collidableFlags, capacity);
+        }
+        objects[objectCount] = obj;
+        observerIndexes[objectCount] = NOT_AN_OBSERVER;
+        spatialHash = null;
+        return objectCount++;
+    }
+
+    private boolean containsCollidable(int observerIndex, GameObject obj) {
+        GameObject[] targets = collidables[observerIndex];
+        for (int j = 0; j < collidableCounts[observerIndex]; j++) {
+            if (targets[j] == obj) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addCollidable(int observerIndex, GameObject obj) {
+        GameObject[] targets = collidables[observerIndex];
+        int count = collidableCounts[observerIndex];
+        if (count == targets.length) {
+            targets = Arrays.copyOf(targets, count * 2);
+            collidables[observerIndex] = targets;
+        }
+        targets[count] = obj;
+        collidableCounts[observerIndex] = count + 1;
     }
 
 }
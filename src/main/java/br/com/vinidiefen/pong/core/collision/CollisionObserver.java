@@ -13,5 +13,16 @@ public interface CollisionObserver {
      * @param other The other GameObject involved in the collision
      */
     void onCollision(GameObject other);
+
+    /**
+     * Called when a collision happens during a tick
+     *
+     * @param other         The other GameObject involved in the collision
+     * @param timeOfImpact  Fraction of the tick at which they touched, in
+     *                      16.16 fixed point (0 up to FixedPoint.ONE)
+     */
+    default void onCollision(GameObject other, int timeOfImpact) {
+        onCollision(other);
+    }
     
 }
@@ -0,0 +1,232 @@
+package br.com.vinidiefen.pong.core.collision;
+
+import java.util.Arrays;
+
+/**
+ * Uniform-grid broad phase: boxes identified by small integer ids are filed
+ * under every grid cell they cover, and only boxes sharing a cell become
+ * candidate pairs. Cells are hashed into a fixed bucket table, so the grid is
+ * unbounded and needs no arena size.
+ *
+ * Updates are incremental (a box whose cell range did not change is left
+ * alone) and, once the buckets have grown to their working size, neither
+ * updates nor pair enumeration allocate.
+ */
+public class SpatialHash {
+
+    /**
+     * Receives each candidate pair once
+     */
+    @FunctionalInterface
+    public interface PairVisitor {
+        void visit(int a, int b);
+    }
+
+    // Bucket entries are (id, cellX, cellY) triples
+    private static final int STRIDE = 3;
+    private static final int INITIAL_BUCKET_ENTRIES = 4;
+
+    private final int cellSize;
+    private final int bucketMask;
+    private final int[][] buckets;
+    private final int[] bucketSizes;
+
+    // Cell range covered by each id; active[id] is false when not filed
+    private boolean[] active;
+    private int[] minCellX;
+    private int[] minCellY;
+    private int[] maxCellX;
+    private int[] maxCellY;
+    private int idLimit;
+
+    /**
+     * @param cellSize Side of a grid cell, ideally a bit larger than the
+     *                 typical moving box
+     * @param capacity Expected number of ids (the table grows past it)
+     */
+    public SpatialHash(int cellSize, int capacity) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.cellSize = cellSize;
+
+        // About two buckets per id keeps unrelated cells from sharing buckets
+        int bucketCount = Integer.highestOneBit(Math.max(64, capacity * 2 - 1)) << 1;
+        this.bucketMask = bucketCount - 1;
+        this.buckets = new int[bucketCount][];
+        this.bucketSizes = new int[bucketCount];
+
+        active = new boolean[capacity];
+        minCellX = new int[capacity];
+        minCellY = new int[capacity];
+        maxCellX = new int[capacity];
+        maxCellY = new int[capacity];
+    }
+
+    /**
+     * File a box under its cells, or move it if the cells changed
+     */
+    public void update(int id, float minX, float minY, float maxX, float maxY) {
+        ensureId(id);
+        int newMinX = cell(minX);
+        int newMinY = cell(minY);
+        int newMaxX = cell(maxX);
+        int newMaxY = cell(maxY);
+
+        if (!active[id]) {
+            setRange(id, newMinX, newMinY, newMaxX, newMaxY);
+            active[id] = true;
+            for (int cy = newMinY; cy <= newMaxY; cy++) {
+                for (int cx = newMinX; cx <= newMaxX; cx++) {
+                    addEntry(id, cx, cy);
+                }
+            }
+            return;
+        }
+
+        int oldMinX = minCellX[id];
+        int oldMinY = minCellY[id];
+        int oldMaxX = maxCellX[id];
+        int oldMaxY = maxCellY[id];
+        if (newMinX == oldMinX && newMinY == oldMinY && newMaxX == oldMaxX && newMaxY == oldMaxY) {
+            return;
+        }
+
+        // Only touch the cells entering or leaving the range
+        for (int cy = oldMinY; cy <= oldMaxY; cy++) {
+            for (int cx = oldMinX; cx <= oldMaxX; cx++) {
+                if (cx < newMinX || cx > newMaxX || cy < newMinY || cy > newMaxY) {
+                    removeEntry(id, cx, cy);
+                }
+            }
+        }
+        for (int cy = newMinY; cy <= newMaxY; cy++) {
+            for (int cx = newMinX; cx <= newMaxX; cx++) {
+                if (cx < oldMinX || cx > oldMaxX || cy < oldMinY || cy > oldMaxY) {
+                    addEntry(id, cx, cy);
+                }
+            }
+        }
+        setRange(id, newMinX, newMinY, newMaxX, newMaxY);
+    }
+
+    /**
+     * Take a box out of the grid
+     */
+    public void remove(int id) {
+        if (id < idLimit && active[id]) {
+            unfile(id);
+            active[id] = false;
+        }
+    }
+
+    /**
+     * Visit every pair of boxes that share at least one cell. Each pair is
+     * visited once, with a lower than b.
+     */
+    public void forEachPair(PairVisitor visitor) {
+        // Bucket by bucket, so each entry array is read once and in order
+        for (int bucket = 0; bucket <= bucketMask; bucket++) {
+            int size = bucketSizes[bucket];
+            if (size <= STRIDE) {
+                continue;
+            }
+            int[] entries = buckets[bucket];
+            for (int e = 0; e < size; e += STRIDE) {
+                int cx = entries[e + 1];
+                int cy = entries[e + 2];
+                for (int f = e + STRIDE; f < size; f += STRIDE) {
+                    if (entries[f + 1] == cx && entries[f + 2] == cy) {
+                        visitSharedCell(entries[e], entries[f], cx, cy, visitor);
+                    }
+                }
+            }
+        }
+    }
+
+    private void visitSharedCell(int first, int second, int cx, int cy, PairVisitor visitor) {
+        int a = Math.min(first, second);
+        int b = Math.max(first, second);
+        // Boxes sharing several cells are reported only from the first cell
+        // of their overlap
+        if (cx == Math.max(minCellX[a], minCellX[b]) && cy == Math.max(minCellY[a], minCellY[b])) {
+            visitor.visit(a, b);
+        }
+    }
+
+    private void setRange(int id, int minX, int minY, int maxX, int maxY) {
+        minCellX[id] = minX;
+        minCellY[id] = minY;
+        maxCellX[id] = maxX;
+        maxCellY[id] = maxY;
+    }
+
+    private void unfile(int id) {
+        for (int cy = minCellY[id]; cy <= maxCellY[id]; cy++) {
+            for (int cx = minCellX[id]; cx <= maxCellX[id]; cx++) {
+                removeEntry(id, cx, cy);
+            }
+        }
+    }
+
+    private void addEntry(int id, int cx, int cy) {
+        int bucket = bucket(cx, cy);
+        int[] entries = buckets[bucket];
+        int size = bucketSizes[bucket];
+        if (entries == null) {
+            entries = new int[INITIAL_BUCKET_ENTRIES * STRIDE];
+            buckets[bucket] = entries;
+        } else if (size == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+            buckets[bucket] = entries;
+        }
+        entries[size] = id;
+        entries[size + 1] = cx;
+        entries[size + 2] = cy;
+        bucketSizes[bucket] = size + STRIDE;
+    }
+
+    private void removeEntry(int id, int cx, int cy) {
+        int bucket = bucket(cx, cy);
+        int[] entries = buckets[bucket];
+        int size = bucketSizes[bucket];
+        for (int e = 0; e < size; e += STRIDE) {
+            if (entries[e] == id && entries[e + 1] == cx && entries[e + 2] == cy) {
+                // Swap in the last entry; order inside a bucket does not matter
+                int last = size - STRIDE;
+                entries[e] = entries[last];
+                entries[e + 1] = entries[last + 1];
+                entries[e + 2] = entries[last + 2];
+                bucketSizes[bucket] = last;
+                return;
+            }
+        }
+    }
+
+    private void ensureId(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Id must not be negative: " + id);
+        }
+        if (id >= active.length) {
+            int capacity = Math.max(id + 1, active.length * 2);
+            active = Arrays.copyOf(active, capacity);
+            minCellX = Arrays.copyOf(minCellX, capacity);
+            minCellY = Arrays.copyOf(minCellY, capacity);
+            maxCellX = Arrays.copyOf(maxCellX, capacity);
+            maxCellY = Arrays.copyOf(maxCellY, capacity);
+        }
+        idLimit = Math.max(idLimit, id + 1);
+    }
+
+    private int cell(float coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private int bucket(int cx, int cy) {
+        return (cx * 73_856_093 ^ cy * 19_349_663) & bucketMask;
+    }
+
+}
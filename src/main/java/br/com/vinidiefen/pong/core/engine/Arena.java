@@ -0,0 +1,27 @@
+package br.com.vinidiefen.pong.core.engine;
+
+/**
+ * Explicit playing field dimensions, independent of any UI component
+ */
+public final class Arena {
+
+    private final int width;
+    private final int height;
+
+    public Arena(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Arena dimensions must be positive: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+}
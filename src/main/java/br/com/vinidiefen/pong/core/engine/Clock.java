@@ -0,0 +1,22 @@
+package br.com.vinidiefen.pong.core.engine;
+
+/**
+ * Time source for the engine, so simulations can run on wall time or on
+ * simulated time
+ */
+@FunctionalInterface
+public interface Clock {
+
+    /**
+     * @return Current time in nanoseconds (only differences are meaningful)
+     */
+    long nanoTime();
+
+    /**
+     * Wall clock backed by {@link System#nanoTime()}
+     */
+    static Clock system() {
+        return System::nanoTime;
+    }
+
+}
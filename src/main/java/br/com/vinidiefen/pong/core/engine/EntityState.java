@@ -0,0 +1,59 @@
+package br.com.vinidiefen.pong.core.engine;
+
+import br.com.vinidiefen.pong.domain.entities.GameObject;
+
+/**
+ * Copy of an entity's box at the end of a tick, as seen by the renderer
+ */
+public final class EntityState {
+
+    private int previousX;
+    private int previousY;
+    private int x;
+    private int y;
+    private int width;
+    private int height;
+
+    EntityState() {
+    }
+
+    void capture(GameObject entity) {
+        previousX = entity.getPreviousX();
+        previousY = entity.getPreviousY();
+        x = entity.getX();
+        y = entity.getY();
+        width = entity.getWidth();
+        height = entity.getHeight();
+    }
+
+    /**
+     * @param alpha Fraction of a tick elapsed since the captured tick (0..1)
+     */
+    public int getInterpolatedX(double alpha) {
+        return (int) Math.round(previousX + (x - previousX) * alpha);
+    }
+
+    /**
+     * @param alpha Fraction of a tick elapsed since the captured tick (0..1)
+     */
+    public int getInterpolatedY(double alpha) {
+        return (int) Math.round(previousY + (y - previousY) * alpha);
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+}
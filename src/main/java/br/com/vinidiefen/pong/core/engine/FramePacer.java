@@ -0,0 +1,101 @@
+package br.com.vinidiefen.pong.core.engine;
+
+import java.util.concurrent.locks.LockSupport;
+
+import br.com.vinidiefen.pong.constants.GameConstants;
+import br.com.vinidiefen.pong.core.metrics.EngineMetrics;
+
+/**
+ * Waits for the next tick or frame deadline with little CPU and little
+ * jitter: parks for most of the remaining time, then spin-yields only for
+ * the last stretch, where OS timer wake-ups are too coarse. Tick rate and
+ * render cap can be changed at runtime from any thread.
+ */
+public class FramePacer {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Clock clock;
+    private final long spinThresholdNanos;
+
+    private volatile long nanosPerTick;
+    private volatile long nanosPerFrame;
+    private volatile EngineMetrics metrics;
+
+    public FramePacer(Clock clock, int ticksPerSecond, int maxRenderFps) {
+        this(clock, ticksPerSecond, maxRenderFps, GameConstants.PACER_SPIN_THRESHOLD_NS);
+    }
+
+    /**
+     * @param clock              Time source the deadlines refer to
+     * @param ticksPerSecond     Fixed simulation rate
+     * @param maxRenderFps       Upper bound for frames per second
+     * @param spinThresholdNanos Time before a deadline spent yielding instead
+     *                           of parking
+     */
+    public FramePacer(Clock clock, int ticksPerSecond, int maxRenderFps, long spinThresholdNanos) {
+        this.clock = clock;
+        this.spinThresholdNanos = spinThresholdNanos;
+        setTickRate(ticksPerSecond);
+        setRenderCap(maxRenderFps);
+    }
+
+    /**
+     * Block until the clock reaches the deadline
+     *
+     * @param deadline Target time on this pacer's clock
+     * @return false if the thread was interrupted while waiting
+     */
+    public boolean awaitUntil(long deadline) {
+        long remaining = deadline - clock.nanoTime();
+        while (remaining > spinThresholdNanos) {
+            LockSupport.parkNanos(remaining - spinThresholdNanos);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            remaining = deadline - clock.nanoTime();
+        }
+        while (remaining > 0) {
+            Thread.yield();
+            remaining = deadline - clock.nanoTime();
+        }
+
+        EngineMetrics currentMetrics = metrics;
+        if (currentMetrics != null) {
+            currentMetrics.recordWakeJitter(-remaining);
+        }
+        return !Thread.currentThread().isInterrupted();
+    }
+
+    public void setTickRate(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+        }
+        this.nanosPerTick = NANOS_PER_SECOND / ticksPerSecond;
+    }
+
+    public void setRenderCap(int maxRenderFps) {
+        if (maxRenderFps <= 0) {
+            throw new IllegalArgumentException("Render cap must be positive: " + maxRenderFps);
+        }
+        this.nanosPerFrame = NANOS_PER_SECOND / maxRenderFps;
+    }
+
+    public long getNanosPerTick() {
+        return nanosPerTick;
+    }
+
+    public long getNanosPerFrame() {
+        return nanosPerFrame;
+    }
+
+    /**
+     * Record how late each wake-up was
+     *
+     * @param metrics Where jitter is recorded, or null to disable
+     */
+    public void setMetrics(EngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+}
@@ -1,20 +1,47 @@
 package br.com.vinidiefen.pong.core.engine;
 
 import br.com.vinidiefen.pong.constants.GameConstants;
-import br.com.vinidiefen.pong.infrastructure.ui.panels.GamePanel;
+import br.com.vinidiefen.pong.core.metrics.EngineMetrics;
+import br.com.vinidiefen.pong.core.metrics.EngineMetrics.Phase;
 
 /**
- * Game loop runs independently of UI rendering; moved to core.engine package.
+ * Fixed-timestep game loop running independently of UI rendering.
+ * The simulation advances in fixed ticks (catching up after stalls, up to a
+ * configurable limit) and rendering is requested at most once per frame with
+ * an interpolation factor between the last two ticks. Between deadlines the
+ * thread waits on a {@link FramePacer}.
  */
 public class GameLoop extends Thread {
 
-    private static final double NS_PER_UPDATE = 1_000_000_000.0 / GameConstants.TARGET_FPS;
+    private final LoopTarget target;
+    private final Clock clock;
+    private final FramePacer pacer;
+    private final int maxCatchUpTicks;
 
-    private GamePanel gamePanel;
+    // Optional loop timing (null when not instrumented)
+    private volatile EngineMetrics metrics;
 
-    public GameLoop(GamePanel gamePanel) {
+    public GameLoop(LoopTarget target, Clock clock) {
+        this(target, clock, GameConstants.TARGET_FPS, GameConstants.MAX_RENDER_FPS, GameConstants.MAX_CATCH_UP_TICKS);
+    }
+
+    /**
+     * @param target          What is updated and rendered
+     * @param clock           Time source used to pace ticks and frames
+     * @param ticksPerSecond  Fixed simulation rate
+     * @param maxRenderFps    Upper bound for render requests per second
+     * @param maxCatchUpTicks Maximum ticks run in one iteration before the
+     *                        remaining backlog is dropped
+     */
+    public GameLoop(LoopTarget target, Clock clock, int ticksPerSecond, int maxRenderFps, int maxCatchUpTicks) {
         super("Game Loop Thread");
-        this.gamePanel = gamePanel;
+        if (maxCatchUpTicks <= 0) {
+            throw new IllegalArgumentException("Catch-up limit must be positive: " + maxCatchUpTicks);
+        }
+        this.target = target;
+        this.clock = clock;
+        this.pacer = new FramePacer(clock, ticksPerSecond, maxRenderFps);
+        this.maxCatchUpTicks = maxCatchUpTicks;
     }
 
     /**
@@ -22,33 +49,93 @@ public class GameLoop extends Thread {
      */
     @Override
     public void run() {
-        long lastTime = System.nanoTime();
-        double delta = 0;
-
-        while (gamePanel.isGameLoopActive()) {
-            long now = System.nanoTime();
-            delta += (now - lastTime) / NS_PER_UPDATE;
-            lastTime = now;
-
-            // Update
-            if (delta >= 1) {
-                if (gamePanel.gameLoopShouldUpdate()) {
-                    gamePanel.updateComponents();
+        long previousTime = clock.nanoTime();
+        long lastRenderTime = previousTime - pacer.getNanosPerFrame();
+        long accumulator = 0;
+
+        while (target.isGameLoopActive()) {
+            // Rates may change at runtime; read them once per iteration
+            long nanosPerTick = pacer.getNanosPerTick();
+            long nanosPerFrame = pacer.getNanosPerFrame();
+
+            long now = clock.nanoTime();
+            accumulator += now - previousTime;
+            previousTime = now;
+
+            // Update: run as many fixed ticks as the elapsed time requires,
+            // each after the input that happened before its slice ended
+            int ticks = 0;
+            while (accumulator >= nanosPerTick && ticks < maxCatchUpTicks) {
+                target.processInput(now - accumulator + nanosPerTick);
+                if (target.gameLoopShouldUpdate()) {
+                    updateTarget();
                 }
-                delta--;
+                accumulator -= nanosPerTick;
+                ticks++;
+            }
+
+            // Too far behind: drop the backlog instead of spiraling
+            if (accumulator >= nanosPerTick) {
+                recordDroppedTicks(accumulator / nanosPerTick);
+                accumulator %= nanosPerTick;
             }
 
-            // Render
-            gamePanel.repaint();
+            // The rest (e.g. a pause shortcut) applies even without a tick
+            target.processInput(now);
 
-            // Small sleep to prevent CPU overload
-            try {
-                Thread.sleep(GameConstants.GAME_LOOP_SLEEP_MS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+            // Render: at most once per frame, between the last two ticks
+            if (now - lastRenderTime >= nanosPerFrame) {
+                double alpha = target.gameLoopShouldUpdate() ? (double) accumulator / nanosPerTick : 1.0;
+                target.render(alpha);
+                lastRenderTime = now;
+            }
+
+            // Wait for whichever comes first: the next tick or the next frame
+            long nextTick = now + nanosPerTick - accumulator;
+            long nextFrame = lastRenderTime + nanosPerFrame;
+            if (!pacer.awaitUntil(Math.min(nextTick, nextFrame))) {
                 break;
             }
         }
     }
 
+    /**
+     * Run one tick, timing it when instrumented
+     */
+    private void updateTarget() {
+        EngineMetrics currentMetrics = metrics;
+        if (currentMetrics == null) {
+            target.updateComponents();
+            return;
+        }
+        long start = System.nanoTime();
+        target.updateComponents();
+        currentMetrics.record(Phase.TICK, System.nanoTime() - start);
+        currentMetrics.recordTick();
+    }
+
+    private void recordDroppedTicks(long count) {
+        EngineMetrics currentMetrics = metrics;
+        if (currentMetrics != null) {
+            currentMetrics.recordDroppedTicks(count);
+        }
+    }
+
+    /**
+     * Time every tick and count the ticks dropped while catching up
+     *
+     * @param metrics Where timings are recorded, or null to disable
+     */
+    public void setMetrics(EngineMetrics metrics) {
+        this.metrics = metrics;
+        pacer.setMetrics(metrics);
+    }
+
+    /**
+     * Pacing of this loop, to change tick rate or render cap at runtime
+     */
+    public FramePacer getPacer() {
+        return pacer;
+    }
+
 }
@@ -0,0 +1,307 @@
+package br.com.vinidiefen.pong.core.engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import br.com.vinidiefen.pong.constants.GameConstants;
+import br.com.vinidiefen.pong.constants.GameMode;
+import br.com.vinidiefen.pong.constants.InputConstants;
+import br.com.vinidiefen.pong.core.collision.CollisionDetector;
+import br.com.vinidiefen.pong.core.metrics.EngineMetrics;
+import br.com.vinidiefen.pong.core.metrics.EngineMetrics.Phase;
+import br.com.vinidiefen.pong.domain.entities.Ball;
+import br.com.vinidiefen.pong.domain.entities.BallSwarm;
+import br.com.vinidiefen.pong.domain.entities.Paddle;
+import br.com.vinidiefen.pong.domain.managers.ScoreManager;
+
+/**
+ * Headless match simulation: owns the paddles, the ball, collision detection
+ * and scoring for an arena of explicit size. It never touches AWT, so it can
+ * be ticked by the {@link GameLoop} behind a panel or unthrottled on servers
+ * without a display.
+ */
+public class GameWorld {
+
+    private final Arena arena;
+    private final Clock clock;
+    private final long startNanos;
+    private final long seed;
+
+    private final Paddle leftPaddle;
+    private final Paddle rightPaddle;
+    private final Ball ball;
+    private final BallSwarm ballSwarm;
+    private final ScoreManager scoreManager;
+    private final CollisionDetector collisionDetector;
+
+    // Optional non-keyboard players
+    private PaddleController leftController;
+    private PaddleController rightController;
+
+    // Optional per-phase timing (null when not instrumented)
+    private EngineMetrics metrics;
+
+    // Match statistics
+    private long tickCount;
+    private int pointsPlayed;
+    private long totalRallyHits;
+    private int longestRally;
+    private int hitsAtServe;
+
+    public GameWorld(int width, int height) {
+        this(width, height, GameMode.CLASSIC);
+    }
+
+    /**
+     * @param width  Arena width in pixels
+     * @param height Arena height in pixels
+     * @param mode   Game mode, which decides how many extra balls are added
+     */
+    public GameWorld(int width, int height, GameMode mode) {
+        this(width, height, Clock.system(), mode, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * @param width  Arena width in pixels
+     * @param height Arena height in pixels
+     * @param clock  Time source of the match (wall time or simulated time)
+     */
+    public GameWorld(int width, int height, Clock clock) {
+        this(width, height, clock, GameMode.CLASSIC, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * @param width  Arena width in pixels
+     * @param height Arena height in pixels
+     * @param clock  Time source of the match (wall time or simulated time)
+     * @param seed   Seed for the serve directions, so the match is reproducible
+     */
+    public GameWorld(int width, int height, Clock clock, long seed) {
+        this(width, height, clock, GameMode.CLASSIC, seed);
+    }
+
+    /**
+     * @param width  Arena width in pixels
+     * @param height Arena height in pixels
+     * @param clock  Time source of the match (wall time or simulated time)
+     * @param mode   Game mode, which decides how many extra balls are added
+     * @param seed   Seed for serves and extra balls, so the match is reproducible
+     */
+    public GameWorld(int width, int height, Clock clock, GameMode mode, long seed) {
+        this.arena = new Arena(width, height);
+        this.clock = clock;
+        this.startNanos = clock.nanoTime();
+        this.seed = seed;
+
+        // Single source of randomness, so the seed alone reproduces the match
+        RandomGenerator random = new SplittableRandom(seed);
+
+        int middleY = height / 2;
+        int middleX = width / 2;
+        int middlePaddleY = GameConstants.PADDLE_HEIGHT / 2;
+        int middleBall = GameConstants.BALL_SIZE / 2;
+
+        leftPaddle = new Paddle(GameConstants.PADDLE_MARGIN, middleY - middlePaddleY,
+                InputConstants.LEFT_PADDLE_UP, InputConstants.LEFT_PADDLE_DOWN);
+        rightPaddle = new Paddle(width - GameConstants.PADDLE_MARGIN - GameConstants.PADDLE_WIDTH,
+                middleY - middlePaddleY, InputConstants.RIGHT_PADDLE_UP, InputConstants.RIGHT_PADDLE_DOWN);
+        ball = new Ball(middleX - middleBall, middleY - middleBall, random);
+
+        leftPaddle.setArena(arena);
+        rightPaddle.setArena(arena);
+        ball.setArena(arena);
+
+        if (mode.getExtraBalls() > 0) {
+            ballSwarm = new BallSwarm(mode.getExtraBalls());
+            ballSwarm.setArena(arena);
+            ballSwarm.spawnRandom(mode.getExtraBalls(), random);
+        } else {
+            ballSwarm = null;
+        }
+
+        scoreManager = new ScoreManager(GameConstants.WINNING_SCORE);
+        collisionDetector = new CollisionDetector();
+        collisionDetector.addCollisionObserver(ball, leftPaddle, rightPaddle);
+        collisionDetector.setBallSwarm(ballSwarm);
+    }
+
+    /**
+     * Advance the match by one fixed tick
+     */
+    public void tick() {
+        long phaseStart = metrics != null ? System.nanoTime() : 0;
+
+        // Let controllers steer their paddles before they move
+        applyController(leftController, leftPaddle);
+        applyController(rightController, rightPaddle);
+        phaseStart = endPhase(Phase.INPUT, phaseStart);
+
+        // Keep the pre-tick positions for render interpolation
+        leftPaddle.syncPreviousPosition();
+        rightPaddle.syncPreviousPosition();
+        ball.syncPreviousPosition();
+
+        // Update entities within the arena boundaries
+        leftPaddle.update();
+        rightPaddle.update();
+        ball.update();
+        if (ballSwarm != null) {
+            ballSwarm.update();
+        }
+        phaseStart = endPhase(Phase.UPDATE, phaseStart);
+
+        // Check collisions
+        collisionDetector.checkCollision();
+        endPhase(Phase.COLLISION, phaseStart);
+
+        // Check scoring
+        if (ball.isOffLeft()) {
+            scoreManager.incrementRightScore();
+            endRally();
+        } else if (ball.isOffRight()) {
+            scoreManager.incrementLeftScore();
+            endRally();
+        }
+
+        tickCount++;
+    }
+
+    /**
+     * Record the duration of a phase that started at phaseStart
+     *
+     * @return Start time of the next phase
+     */
+    private long endPhase(Phase phase, long phaseStart) {
+        if (metrics == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        metrics.record(phase, now - phaseStart);
+        return now;
+    }
+
+    private void applyController(PaddleController controller, Paddle paddle) {
+        if (controller == null) {
+            return;
+        }
+        int direction = controller.decide(this, paddle);
+        paddle.setMovement(direction < 0, direction > 0);
+    }
+
+    /**
+     * Record the finished rally and serve again
+     */
+    private void endRally() {
+        int rally = ball.getHitCount() - hitsAtServe;
+        hitsAtServe = ball.getHitCount();
+        pointsPlayed++;
+        totalRallyHits += rally;
+        longestRally = Math.max(longestRally, rally);
+        ball.reset();
+    }
+
+    /**
+     * Tick back to back, without any pacing, until someone wins
+     *
+     * @param maxTicks Safety limit for matches that never end
+     * @return Number of ticks executed
+     */
+    public long runUntilWinner(long maxTicks) {
+        long executed = 0;
+        while (!hasWinner() && executed < maxTicks) {
+            tick();
+            executed++;
+        }
+        return executed;
+    }
+
+    public boolean hasWinner() {
+        return scoreManager.hasWinner();
+    }
+
+    /**
+     * Drive the paddles with controllers instead of (or besides) the keyboard
+     *
+     * @param left  Controller of the left paddle, or null for none
+     * @param right Controller of the right paddle, or null for none
+     */
+    public void setControllers(PaddleController left, PaddleController right) {
+        this.leftController = left;
+        this.rightController = right;
+    }
+
+    /**
+     * Time the input, update and collision phases of every tick
+     *
+     * @param metrics Where timings are recorded, or null to disable
+     */
+    public void setMetrics(EngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return Seed of the match; the same seed and inputs replay it exactly
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public int getPointsPlayed() {
+        return pointsPlayed;
+    }
+
+    /**
+     * @return Paddle hits summed over all finished rallies
+     */
+    public long getTotalRallyHits() {
+        return totalRallyHits;
+    }
+
+    public int getLongestRally() {
+        return longestRally;
+    }
+
+    /**
+     * @return Time elapsed on this world's clock since the match was created
+     */
+    public long getElapsedNanos() {
+        return clock.nanoTime() - startNanos;
+    }
+
+    public Arena getArena() {
+        return arena;
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    public Paddle getLeftPaddle() {
+        return leftPaddle;
+    }
+
+    public Paddle getRightPaddle() {
+        return rightPaddle;
+    }
+
+    public Ball getBall() {
+        return ball;
+    }
+
+    /**
+     * @return Extra balls of the multi-ball mode, or null in classic mode
+     */
+    public BallSwarm getBallSwarm() {
+        return ballSwarm;
+    }
+
+    public ScoreManager getScoreManager() {
+        return scoreManager;
+    }
+
+}
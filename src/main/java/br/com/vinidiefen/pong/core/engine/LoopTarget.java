@@ -0,0 +1,44 @@
+package br.com.vinidiefen.pong.core.engine;
+
+/**
+ * Whatever the {@link GameLoop} drives: decides when to tick, performs the
+ * fixed update and presents frames
+ */
+public interface LoopTarget {
+
+    /**
+     * @return false once the loop thread should exit
+     */
+    boolean isGameLoopActive();
+
+    /**
+     * @return true if the simulation should advance (e.g. not paused)
+     */
+    boolean gameLoopShouldUpdate();
+
+    /**
+     * Apply the input received since the previous call, up to a given time.
+     * Called by the loop thread at the start of every tick with the end of
+     * that tick's time slice, so each tick of a catch-up batch only sees the
+     * events that happened before it; and once per iteration with the
+     * current time, so input is applied even while the simulation is not
+     * updating
+     *
+     * @param untilNanos Latest event time to apply, on the loop's clock
+     */
+    default void processInput(long untilNanos) {
+    }
+
+    /**
+     * Advance the simulation by one fixed tick
+     */
+    void updateComponents();
+
+    /**
+     * Present a frame drawn between the last two ticks
+     *
+     * @param alpha Fraction of a tick elapsed since the last update (0..1)
+     */
+    void render(double alpha);
+
+}
@@ -0,0 +1,28 @@
+package br.com.vinidiefen.pong.core.engine;
+
+/**
+ * Clock that only moves when advanced explicitly. Used by headless
+ * simulations, where game time is decoupled from wall time.
+ */
+public class ManualClock implements Clock {
+
+    private long now;
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    /**
+     * Move the clock forward
+     *
+     * @param nanos Amount of time to advance, in nanoseconds
+     */
+    public void advance(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Clock cannot go backwards: " + nanos);
+        }
+        now += nanos;
+    }
+
+}
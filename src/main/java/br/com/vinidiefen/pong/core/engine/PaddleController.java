@@ -0,0 +1,25 @@
+package br.com.vinidiefen.pong.core.engine;
+
+import br.com.vinidiefen.pong.domain.entities.Paddle;
+
+/**
+ * Strategy that moves a paddle without keyboard input (AI, scripted or
+ * simulated players). Called by the {@link GameWorld} at the start of each tick.
+ */
+@FunctionalInterface
+public interface PaddleController {
+
+    int UP = -1;
+    int STAY = 0;
+    int DOWN = 1;
+
+    /**
+     * Decide how the paddle moves during the next tick
+     *
+     * @param world  The match being simulated
+     * @param paddle The paddle driven by this controller
+     * @return {@link #UP}, {@link #STAY} or {@link #DOWN}
+     */
+    int decide(GameWorld world, Paddle paddle);
+
+}
@@ -0,0 +1,93 @@
+package br.com.vinidiefen.pong.core.engine;
+
+import br.com.vinidiefen.pong.domain.managers.ScoreManager;
+
+/**
+ * Everything the renderer needs from a {@link GameWorld} at the end of a
+ * tick. Instances are recycled by {@link SnapshotBuffer}; a snapshot handed
+ * to the reader is not modified until the reader acquires a newer one.
+ */
+public final class RenderSnapshot {
+
+    private final EntityState leftPaddle = new EntityState();
+    private final EntityState rightPaddle = new EntityState();
+    private final EntityState ball = new EntityState();
+    private final SwarmState swarm = new SwarmState();
+
+    private long tick = -1;
+    private int leftScore;
+    private int rightScore;
+    private int winner;
+    private long inputNanos;
+
+    RenderSnapshot() {
+    }
+
+    void capture(GameWorld world, long inputNanos) {
+        this.inputNanos = inputNanos;
+        leftPaddle.capture(world.getLeftPaddle());
+        rightPaddle.capture(world.getRightPaddle());
+        ball.capture(world.getBall());
+        swarm.capture(world.getBallSwarm());
+
+        ScoreManager scoreManager = world.getScoreManager();
+        leftScore = scoreManager.getLeftScore();
+        rightScore = scoreManager.getRightScore();
+        winner = scoreManager.getWinner();
+        tick = world.getTickCount();
+    }
+
+    /**
+     * @return false until a world state has been captured into this snapshot
+     */
+    public boolean isCaptured() {
+        return tick >= 0;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public EntityState getLeftPaddle() {
+        return leftPaddle;
+    }
+
+    public EntityState getRightPaddle() {
+        return rightPaddle;
+    }
+
+    public EntityState getBall() {
+        return ball;
+    }
+
+    /**
+     * @return Extra balls of the multi-ball mode (empty in classic mode)
+     */
+    public SwarmState getSwarm() {
+        return swarm;
+    }
+
+    /**
+     * @return Receive time (System.nanoTime) of the latest input applied
+     *         before this snapshot, or 0 if none yet
+     */
+    public long getInputNanos() {
+        return inputNanos;
+    }
+
+    public int getLeftScore() {
+        return leftScore;
+    }
+
+    public int getRightScore() {
+        return rightScore;
+    }
+
+    /**
+     * @return 1 for left, 2 for right, 0 for no winner
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+}
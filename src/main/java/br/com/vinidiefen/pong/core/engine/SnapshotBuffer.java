@@ -0,0 +1,58 @@
+package br.com.vinidiefen.pong.core.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free triple buffer handing {@link RenderSnapshot}s from one writer
+ * (the game loop) to one reader (the painting thread). The writer fills its
+ * private back slot and swaps it with the shared middle slot in a single
+ * atomic exchange; the reader swaps its front slot with the middle one only
+ * when a newer snapshot was published. Neither side ever waits, and the
+ * three snapshots are reused so publishing does not allocate.
+ */
+public class SnapshotBuffer {
+
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH = 0b100;
+
+    private final RenderSnapshot[] slots = { new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot() };
+
+    // Index of the middle slot, with FRESH set while the reader has not taken it
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    // Owned by the writer
+    private int back = 0;
+
+    // Owned by the reader
+    private int front = 2;
+
+    /**
+     * Capture the world and make it the latest snapshot. Writer thread only.
+     */
+    public void publish(GameWorld world) {
+        publish(world, 0);
+    }
+
+    /**
+     * Capture the world, tagged with the latest input applied so far.
+     * Writer thread only.
+     *
+     * @param inputNanos Receive time of that input, or 0 if none
+     */
+    public void publish(GameWorld world, long inputNanos) {
+        slots[back].capture(world, inputNanos);
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Latest published snapshot. Reader thread only; the returned snapshot
+     * stays untouched until the next call.
+     */
+    public RenderSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return slots[front];
+    }
+
+}
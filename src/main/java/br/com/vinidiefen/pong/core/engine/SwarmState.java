@@ -0,0 +1,59 @@
+package br.com.vinidiefen.pong.core.engine;
+
+import br.com.vinidiefen.pong.domain.entities.BallSwarm;
+
+/**
+ * Copy of a {@link BallSwarm} at the end of a tick, as seen by the renderer.
+ * The arrays grow to the swarm size once and are reused afterwards.
+ */
+public final class SwarmState {
+
+    private float[] x = new float[0];
+    private float[] y = new float[0];
+    private float[] previousX = new float[0];
+    private float[] previousY = new float[0];
+    private int[] size = new int[0];
+    private int count;
+
+    SwarmState() {
+    }
+
+    void capture(BallSwarm swarm) {
+        if (swarm == null) {
+            count = 0;
+            return;
+        }
+        count = swarm.getCount();
+        if (x.length < count) {
+            x = new float[count];
+            y = new float[count];
+            previousX = new float[count];
+            previousY = new float[count];
+            size = new int[count];
+        }
+        swarm.copyTo(x, y, previousX, previousY, size);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @param alpha Fraction of a tick elapsed since the captured tick (0..1)
+     */
+    public int getInterpolatedX(int i, double alpha) {
+        return (int) (previousX[i] + (x[i] - previousX[i]) * alpha);
+    }
+
+    /**
+     * @param alpha Fraction of a tick elapsed since the captured tick (0..1)
+     */
+    public int getInterpolatedY(int i, double alpha) {
+        return (int) (previousY[i] + (y[i] - previousY[i]) * alpha);
+    }
+
+    public int getSize(int i) {
+        return size[i];
+    }
+
+}
@@ -0,0 +1,134 @@
+package br.com.vinidiefen.pong.core.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timing and throughput counters shared by the game loop (writer) and the
+ * UI (reader). Everything is lock-free, so instrumentation never blocks the
+ * loop or the EDT.
+ */
+public class EngineMetrics {
+
+    /**
+     * Parts of a frame that are timed separately
+     */
+    public enum Phase {
+        INPUT("input"),
+        UPDATE("update"),
+        COLLISION("collision"),
+        TICK("tick"),
+        PAINT("paint");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+    private final Map<Phase, AtomicLong> carried = new EnumMap<>(Phase.class);
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong frames = new AtomicLong();
+    private final AtomicLong droppedTicks = new AtomicLong();
+    private final LatencyHistogram wakeJitter = new LatencyHistogram();
+    private final LatencyHistogram inputToTick = new LatencyHistogram();
+    private final LatencyHistogram inputToDisplay = new LatencyHistogram();
+
+    public EngineMetrics() {
+        for (Phase phase : Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+            carried.put(phase, new AtomicLong());
+        }
+    }
+
+    /**
+     * Record how long a phase took
+     */
+    public void record(Phase phase, long nanos) {
+        histograms.get(phase).record(nanos + carried.get(phase).getAndSet(0));
+    }
+
+    /**
+     * Add work done outside the timed section of a phase to its next sample,
+     * e.g. draining the key queue before the tick that applies it
+     */
+    public void carryToNextRecord(Phase phase, long nanos) {
+        carried.get(phase).addAndGet(nanos);
+    }
+
+    public void recordTick() {
+        ticks.incrementAndGet();
+    }
+
+    public void recordFrame() {
+        frames.incrementAndGet();
+    }
+
+    /**
+     * Ticks the loop gave up on because it fell too far behind
+     */
+    public void recordDroppedTicks(long count) {
+        droppedTicks.addAndGet(count);
+    }
+
+    /**
+     * How late the loop woke up after a pacing deadline
+     */
+    public void recordWakeJitter(long nanos) {
+        wakeJitter.record(nanos);
+    }
+
+    /**
+     * Time from receiving an input event to the end of the first tick that
+     * applied it. Key events are rare, so the input histograms are
+     * cumulative: read them with {@link LatencyHistogram#snapshot()}, not
+     * drain().
+     */
+    public void recordInputToTick(long nanos) {
+        inputToTick.record(nanos);
+    }
+
+    /**
+     * Time from receiving an input event to the end of the first frame
+     * painted with it
+     */
+    public void recordInputToDisplay(long nanos) {
+        inputToDisplay.record(nanos);
+    }
+
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms.get(phase);
+    }
+
+    public LatencyHistogram getWakeJitterHistogram() {
+        return wakeJitter;
+    }
+
+    public LatencyHistogram getInputToTickHistogram() {
+        return inputToTick;
+    }
+
+    public LatencyHistogram getInputToDisplayHistogram() {
+        return inputToDisplay;
+    }
+
+    public long getTickCount() {
+        return ticks.get();
+    }
+
+    public long getFrameCount() {
+        return frames.get();
+    }
+
+    public long getDroppedTicks() {
+        return droppedTicks.get();
+    }
+
+}
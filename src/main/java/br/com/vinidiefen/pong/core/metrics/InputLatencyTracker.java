@@ -0,0 +1,65 @@
+package br.com.vinidiefen.pong.core.metrics;
+
+/**
+ * Follows key input from the queue to the screen for the input-to-tick and
+ * input-to-display histograms. The loop thread reports inputs and ticks and
+ * the painting thread the frames it presents; each side only touches its own
+ * fields.
+ */
+public class InputLatencyTracker {
+
+    private final EngineMetrics metrics;
+
+    // Loop thread: oldest input not yet applied by a tick, and the latest
+    // one applied; 0 when none
+    private long pendingNanos;
+    private long appliedNanos;
+
+    // Painting thread: last input seen on screen
+    private long displayedNanos;
+
+    public InputLatencyTracker(EngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * An input was dispatched to the world. Loop thread only.
+     *
+     * @param timestampNanos Receive time of the input (System.nanoTime)
+     */
+    public void inputReceived(long timestampNanos) {
+        if (pendingNanos == 0) {
+            pendingNanos = timestampNanos;
+        }
+    }
+
+    /**
+     * A tick finished. Loop thread only.
+     *
+     * @return Input to tag the tick's snapshot with. Every snapshot carries
+     *         the latest applied input, not only the first one after it, so
+     *         a snapshot overwritten before it is painted loses no sample.
+     */
+    public long tickFinished(long nowNanos) {
+        if (pendingNanos != 0) {
+            metrics.recordInputToTick(nowNanos - pendingNanos);
+            appliedNanos = pendingNanos;
+            pendingNanos = 0;
+        }
+        return appliedNanos;
+    }
+
+    /**
+     * A frame was presented. Painting thread only; a snapshot may be drawn
+     * repeatedly, so only the first frame showing an input is counted.
+     *
+     * @param inputNanos Input tag of the snapshot drawn, or 0 if none
+     */
+    public void framePresented(long inputNanos, long presentedNanos) {
+        if (inputNanos != 0 && inputNanos != displayedNanos) {
+            displayedNanos = inputNanos;
+            metrics.recordInputToDisplay(presentedNanos - inputNanos);
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package br.com.vinidiefen.pong.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations in nanoseconds. Values are grouped in
+ * power-of-two ranges split in 8 linear sub-buckets (about 12% precision),
+ * so recording is a couple of atomic increments and never allocates.
+ * Any thread may record; a reader either periodically drains the counts
+ * into a {@link HistogramSnapshot} (per-interval figures) or copies them
+ * without resetting (cumulative figures, for rare events).
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record one duration
+     *
+     * @param nanos Duration in nanoseconds (negative values count as zero)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketIndex(value));
+        total.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Move everything recorded since the last drain into a snapshot and
+     * start a new interval. Each value ends up in exactly one snapshot.
+     */
+    public HistogramSnapshot drain() {
+        long[] drained = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            drained[i] = counts.getAndSet(i, 0);
+            count += drained[i];
+        }
+        return new HistogramSnapshot(drained, count, total.getAndSet(0), max.getAndSet(0));
+    }
+
+    /**
+     * Copy everything recorded so far into a snapshot without resetting, so
+     * several readers can report the same cumulative figures
+     */
+    public HistogramSnapshot snapshot() {
+        long[] copied = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copied[i] = counts.get(i);
+            count += copied[i];
+        }
+        return new HistogramSnapshot(copied, count, total.get(), max.get());
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Highest value that falls into the given bucket
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+
+}
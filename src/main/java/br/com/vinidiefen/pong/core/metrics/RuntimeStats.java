@@ -0,0 +1,66 @@
+package br.com.vinidiefen.pong.core.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+
+/**
+ * JVM heap and garbage collection figures read from the platform MXBeans
+ */
+public class RuntimeStats {
+
+    private final long heapUsed;
+    private final long heapMax;
+    private final long gcCount;
+    private final long gcTimeMillis;
+
+    private RuntimeStats(long heapUsed, long heapMax, long gcCount, long gcTimeMillis) {
+        this.heapUsed = heapUsed;
+        this.heapMax = heapMax;
+        this.gcCount = gcCount;
+        this.gcTimeMillis = gcTimeMillis;
+    }
+
+    /**
+     * Read the current values
+     */
+    public static RuntimeStats capture() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // -1 means the collector does not report the value
+            count += Math.max(0, gc.getCollectionCount());
+            time += Math.max(0, gc.getCollectionTime());
+        }
+
+        return new RuntimeStats(heap.getUsed(), heap.getMax(), count, time);
+    }
+
+    public long getHeapUsed() {
+        return heapUsed;
+    }
+
+    /**
+     * @return Maximum heap size, or -1 if undefined
+     */
+    public long getHeapMax() {
+        return heapMax;
+    }
+
+    /**
+     * @return Collections since JVM start, over all collectors
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * @return Accumulated collection time since JVM start
+     */
+    public long getGcTimeMillis() {
+        return gcTimeMillis;
+    }
+
+}
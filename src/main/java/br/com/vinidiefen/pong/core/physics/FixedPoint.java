@@ -0,0 +1,49 @@
+package br.com.vinidiefen.pong.core.physics;
+
+/**
+ * 16.16 fixed-point arithmetic on plain ints: the high 16 bits hold whole
+ * pixels and the low 16 bits a fraction of a pixel. Integer math gives
+ * sub-pixel speeds with bit-identical results on every JVM and platform.
+ */
+public final class FixedPoint {
+
+    public static final int FRACTION_BITS = 16;
+    public static final int ONE = 1 << FRACTION_BITS;
+    public static final int HALF = ONE >> 1;
+
+    private FixedPoint() {
+    }
+
+    /**
+     * Fixed-point value of a whole number of pixels
+     */
+    public static int of(int pixels) {
+        return pixels << FRACTION_BITS;
+    }
+
+    /**
+     * Fixed-point value of a fraction (numerator / denominator) of a pixel
+     */
+    public static int ofRatio(int numerator, int denominator) {
+        return (int) (((long) numerator << FRACTION_BITS) / denominator);
+    }
+
+    /**
+     * Whole pixels, rounded down (toward negative infinity)
+     */
+    public static int toInt(int value) {
+        return value >> FRACTION_BITS;
+    }
+
+    /**
+     * Whole pixels, rounded to the nearest (halves away from zero)
+     */
+    public static int round(int value) {
+        return value >= 0 ? (value + HALF) >> FRACTION_BITS : -((-value + HALF) >> FRACTION_BITS);
+    }
+
+    public static int multiply(int a, int b) {
+        return (int) (((long) a * b) >> FRACTION_BITS);
+    }
+
+}
@@ -0,0 +1,33 @@
+package br.com.vinidiefen.pong.core.simulation;
+
+/**
+ * Skill levels of the {@link PredictiveController}
+ */
+public enum AiDifficulty {
+    EASY(12, 60),
+    MEDIUM(6, 30),
+    HARD(2, 10),
+    PERFECT(0, 0);
+
+    private final int reactionTicks;
+    private final int maxErrorPixels;
+
+    AiDifficulty(int reactionTicks, int maxErrorPixels) {
+        this.reactionTicks = reactionTicks;
+        this.maxErrorPixels = maxErrorPixels;
+    }
+
+    /**
+     * @return Ticks between a hit or serve and the reaction to it
+     */
+    public int getReactionTicks() {
+        return reactionTicks;
+    }
+
+    /**
+     * @return Largest aiming error, in pixels either way
+     */
+    public int getMaxErrorPixels() {
+        return maxErrorPixels;
+    }
+}
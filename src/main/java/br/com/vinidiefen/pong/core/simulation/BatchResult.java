@@ -0,0 +1,136 @@
+package br.com.vinidiefen.pong.core.simulation;
+
+/**
+ * Aggregated outcome of a batch of simulated matches
+ */
+public class BatchResult {
+
+    private static final BatchResult EMPTY = new BatchResult(0, 0, 0, 0, 0, 0, 0, 0);
+
+    private final int matches;
+    private final int leftWins;
+    private final int rightWins;
+    private final long totalTicks;
+    private final long pointsPlayed;
+    private final long totalRallyHits;
+    private final int longestRally;
+    private final long wallNanos;
+
+    private BatchResult(int matches, int leftWins, int rightWins, long totalTicks, long pointsPlayed,
+            long totalRallyHits, int longestRally, long wallNanos) {
+        this.matches = matches;
+        this.leftWins = leftWins;
+        this.rightWins = rightWins;
+        this.totalTicks = totalTicks;
+        this.pointsPlayed = pointsPlayed;
+        this.totalRallyHits = totalRallyHits;
+        this.longestRally = longestRally;
+        this.wallNanos = wallNanos;
+    }
+
+    public static BatchResult empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Batch made of a single match
+     */
+    public static BatchResult of(MatchResult match) {
+        return new BatchResult(1,
+                match.getWinner() == 1 ? 1 : 0,
+                match.getWinner() == 2 ? 1 : 0,
+                match.getTicks(),
+                match.getPointsPlayed(),
+                match.getTotalRallyHits(),
+                match.getLongestRally(),
+                0);
+    }
+
+    /**
+     * Sum of both batches (wall time is not combined)
+     */
+    public BatchResult combine(BatchResult other) {
+        return new BatchResult(matches + other.matches,
+                leftWins + other.leftWins,
+                rightWins + other.rightWins,
+                totalTicks + other.totalTicks,
+                pointsPlayed + other.pointsPlayed,
+                totalRallyHits + other.totalRallyHits,
+                Math.max(longestRally, other.longestRally),
+                0);
+    }
+
+    /**
+     * Same results, measured over the given wall time
+     */
+    public BatchResult withWallNanos(long wallNanos) {
+        return new BatchResult(matches, leftWins, rightWins, totalTicks, pointsPlayed, totalRallyHits,
+                longestRally, wallNanos);
+    }
+
+    public int getMatches() {
+        return matches;
+    }
+
+    public int getLeftWins() {
+        return leftWins;
+    }
+
+    public int getRightWins() {
+        return rightWins;
+    }
+
+    /**
+     * Matches that hit the tick limit without a winner
+     */
+    public int getUnfinished() {
+        return matches - leftWins - rightWins;
+    }
+
+    public double getLeftWinRate() {
+        return matches == 0 ? 0 : (double) leftWins / matches;
+    }
+
+    public double getRightWinRate() {
+        return matches == 0 ? 0 : (double) rightWins / matches;
+    }
+
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    public long getPointsPlayed() {
+        return pointsPlayed;
+    }
+
+    /**
+     * Mean paddle hits per point
+     */
+    public double getAverageRallyLength() {
+        return pointsPlayed == 0 ? 0 : (double) totalRallyHits / pointsPlayed;
+    }
+
+    public int getLongestRally() {
+        return longestRally;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * Simulation throughput over all worker threads
+     */
+    public double getTicksPerSecond() {
+        return wallNanos == 0 ? 0 : totalTicks * 1_000_000_000.0 / wallNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("matches=%d left=%.1f%% right=%.1f%% unfinished=%d avgRally=%.2f longestRally=%d"
+                + " ticks=%d ticks/s=%.0f",
+                matches, getLeftWinRate() * 100, getRightWinRate() * 100, getUnfinished(),
+                getAverageRallyLength(), longestRally, totalTicks, getTicksPerSecond());
+    }
+
+}
@@ -0,0 +1,153 @@
+package br.com.vinidiefen.pong.core.simulation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+import br.com.vinidiefen.pong.constants.GameConstants;
+import br.com.vinidiefen.pong.core.engine.GameWorld;
+import br.com.vinidiefen.pong.core.engine.ManualClock;
+import br.com.vinidiefen.pong.core.engine.PaddleController;
+
+/**
+ * Runs many headless matches in parallel on a fork-join pool and aggregates
+ * the results. Matches are unthrottled: game time only advances with ticks.
+ */
+public class BatchSimulator {
+
+    private static final long NANOS_PER_TICK = 1_000_000_000L / GameConstants.TARGET_FPS;
+
+    // Matches simulated sequentially by one fork-join leaf task
+    private static final int MATCHES_PER_TASK = 16;
+
+    private final int width;
+    private final int height;
+    private final Supplier<PaddleController> leftControllers;
+    private final Supplier<PaddleController> rightControllers;
+    private final long maxTicksPerMatch;
+    private final ForkJoinPool pool;
+
+    /**
+     * Uses the common fork-join pool (one worker per core)
+     */
+    public BatchSimulator(int width, int height, Supplier<PaddleController> leftControllers,
+            Supplier<PaddleController> rightControllers, long maxTicksPerMatch) {
+        this(width, height, leftControllers, rightControllers, maxTicksPerMatch, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param width            Arena width in pixels
+     * @param height           Arena height in pixels
+     * @param leftControllers  Creates the left player for each match
+     * @param rightControllers Creates the right player for each match
+     * @param maxTicksPerMatch Limit for matches that never end
+     * @param pool             Pool the matches are spread on
+     */
+    public BatchSimulator(int width, int height, Supplier<PaddleController> leftControllers,
+            Supplier<PaddleController> rightControllers, long maxTicksPerMatch, ForkJoinPool pool) {
+        if (maxTicksPerMatch <= 0) {
+            throw new IllegalArgumentException("maxTicksPerMatch must be positive");
+        }
+        this.width = width;
+        this.height = height;
+        this.leftControllers = leftControllers;
+        this.rightControllers = rightControllers;
+        this.maxTicksPerMatch = maxTicksPerMatch;
+        this.pool = pool;
+    }
+
+    /**
+     * Simulates matchCount matches with seeds derived from baseSeed
+     */
+    public BatchResult run(int matchCount, long baseSeed) {
+        SplittableRandom seedSource = new SplittableRandom(baseSeed);
+        long[] seeds = new long[matchCount];
+        for (int i = 0; i < matchCount; i++) {
+            seeds[i] = seedSource.nextLong();
+        }
+        return run(seeds);
+    }
+
+    /**
+     * Simulates one match per seed
+     */
+    public BatchResult run(long[] seeds) {
+        long start = System.nanoTime();
+        BatchResult result = pool.invoke(new MatchRangeTask(seeds, 0, seeds.length));
+        return result.withWallNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Simulates a single match on the calling thread
+     */
+    public MatchResult simulate(long seed) {
+        ManualClock clock = new ManualClock();
+        GameWorld world = new GameWorld(width, height, clock, seed);
+        world.setControllers(leftControllers.get(), rightControllers.get());
+
+        while (!world.hasWinner() && world.getTickCount() < maxTicksPerMatch) {
+            world.tick();
+            clock.advance(NANOS_PER_TICK);
+        }
+
+        return new MatchResult(seed,
+                world.getScoreManager().getWinner(),
+                world.getScoreManager().getLeftScore(),
+                world.getScoreManager().getRightScore(),
+                world.getTickCount(),
+                world.getPointsPlayed(),
+                world.getTotalRallyHits(),
+                world.getLongestRally(),
+                world.getElapsedNanos());
+    }
+
+    /**
+     * Splits the seed range in halves until it is small enough to simulate
+     */
+    private class MatchRangeTask extends RecursiveTask<BatchResult> {
+
+        private final long[] seeds;
+        private final int from;
+        private final int to;
+
+        MatchRangeTask(long[] seeds, int from, int to) {
+            this.seeds = seeds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BatchResult compute() {
+            if (to - from <= MATCHES_PER_TASK) {
+                BatchResult result = BatchResult.empty();
+                for (int i = from; i < to; i++) {
+                    result = result.combine(BatchResult.of(simulate(seeds[i])));
+                }
+                return result;
+            }
+
+            int middle = (from + to) >>> 1;
+            MatchRangeTask left = new MatchRangeTask(seeds, from, middle);
+            left.fork();
+            BatchResult right = new MatchRangeTask(seeds, middle, to).compute();
+            return left.join().combine(right);
+        }
+    }
+
+    /**
+     * Standalone batch run: [matches] [seed]
+     */
+    public static void main(String[] args) {
+        int matches = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+
+        BatchSimulator simulator = new BatchSimulator(1280, 720,
+                () -> PaddleControllers.tracking(GameConstants.PADDLE_HEIGHT / 4),
+                () -> PaddleControllers.reactive(GameConstants.PADDLE_HEIGHT / 4),
+                10L * 60 * GameConstants.TARGET_FPS);
+
+        System.out.println(simulator.run(matches, seed));
+    }
+
+}
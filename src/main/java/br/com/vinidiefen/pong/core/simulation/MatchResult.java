@@ -0,0 +1,73 @@
+package br.com.vinidiefen.pong.core.simulation;
+
+/**
+ * Outcome of one simulated match
+ */
+public class MatchResult {
+
+    private final long seed;
+    private final int winner;
+    private final int leftScore;
+    private final int rightScore;
+    private final long ticks;
+    private final int pointsPlayed;
+    private final long totalRallyHits;
+    private final int longestRally;
+    private final long simulatedNanos;
+
+    public MatchResult(long seed, int winner, int leftScore, int rightScore, long ticks, int pointsPlayed,
+            long totalRallyHits, int longestRally, long simulatedNanos) {
+        this.seed = seed;
+        this.winner = winner;
+        this.leftScore = leftScore;
+        this.rightScore = rightScore;
+        this.ticks = ticks;
+        this.pointsPlayed = pointsPlayed;
+        this.totalRallyHits = totalRallyHits;
+        this.longestRally = longestRally;
+        this.simulatedNanos = simulatedNanos;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return 1 for left, 2 for right, 0 if the tick limit was reached first
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    public int getLeftScore() {
+        return leftScore;
+    }
+
+    public int getRightScore() {
+        return rightScore;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public int getPointsPlayed() {
+        return pointsPlayed;
+    }
+
+    public long getTotalRallyHits() {
+        return totalRallyHits;
+    }
+
+    public int getLongestRally() {
+        return longestRally;
+    }
+
+    /**
+     * @return Match duration in game time
+     */
+    public long getSimulatedNanos() {
+        return simulatedNanos;
+    }
+
+}
@@ -0,0 +1,69 @@
+package br.com.vinidiefen.pong.core.simulation;
+
+import br.com.vinidiefen.pong.core.engine.PaddleController;
+import br.com.vinidiefen.pong.domain.entities.Ball;
+
+/**
+ * Built-in controller strategies for simulated matches
+ */
+public final class PaddleControllers {
+
+    private PaddleControllers() {
+    }
+
+    /**
+     * Never moves
+     */
+    public static PaddleController idle() {
+        return (world, paddle) -> PaddleController.STAY;
+    }
+
+    /**
+     * Keeps the paddle center on the ball center at all times
+     *
+     * @param deadZone Distance in pixels tolerated before moving
+     */
+    public static PaddleController tracking(int deadZone) {
+        return (world, paddle) -> follow(world.getBall(), paddle.getY() + paddle.getHeight() / 2, deadZone);
+    }
+
+    /**
+     * Follows the ball only while it comes towards the paddle, like a player
+     * that rests between returns
+     *
+     * @param deadZone Distance in pixels tolerated before moving
+     */
+    public static PaddleController reactive(int deadZone) {
+        return (world, paddle) -> {
+            Ball ball = world.getBall();
+            boolean paddleOnLeft = paddle.getX() < world.getArena().getWidth() / 2;
+            boolean approaching = paddleOnLeft ? ball.getVelocityX() < 0 : ball.getVelocityX() > 0;
+            if (!approaching) {
+                return PaddleController.STAY;
+            }
+            return follow(ball, paddle.getY() + paddle.getHeight() / 2, deadZone);
+        };
+    }
+
+    /**
+     * Moves to where the ball will arrive, solved analytically
+     *
+     * @param difficulty Reaction delay and aiming error
+     * @param seed       Seed of the aiming error
+     */
+    public static PaddleController predictive(AiDifficulty difficulty, long seed) {
+        return new PredictiveController(difficulty, seed);
+    }
+
+    private static int follow(Ball ball, int paddleCenter, int deadZone) {
+        int ballCenter = ball.getY() + ball.getHeight() / 2;
+        if (ballCenter < paddleCenter - deadZone) {
+            return PaddleController.UP;
+        }
+        if (ballCenter > paddleCenter + deadZone) {
+            return PaddleController.DOWN;
+        }
+        return PaddleController.STAY;
+    }
+
+}
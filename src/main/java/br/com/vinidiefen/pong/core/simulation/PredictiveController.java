@@ -0,0 +1,117 @@
+package br.com.vinidiefen.pong.core.simulation;
+
+import java.util.SplittableRandom;
+
+import br.com.vinidiefen.pong.constants.GameConstants;
+import br.com.vinidiefen.pong.core.engine.GameWorld;
+import br.com.vinidiefen.pong.core.engine.PaddleController;
+import br.com.vinidiefen.pong.core.physics.FixedPoint;
+import br.com.vinidiefen.pong.domain.entities.Ball;
+import br.com.vinidiefen.pong.domain.entities.Paddle;
+
+/**
+ * AI player that solves where the ball will cross its paddle instead of
+ * chasing it. The straight-line path is unfolded across the top and bottom
+ * walls and folded back into the field, so the intercept is found in
+ * constant time however many bounces there are.
+ *
+ * The prediction is solved once per hit or serve and cached; every other
+ * tick only compares two numbers. Difficulty adds a reaction delay before a
+ * new prediction is used and a random aiming error, drawn from a seeded
+ * generator so simulated matches stay reproducible.
+ */
+public class PredictiveController implements PaddleController {
+
+    private final AiDifficulty difficulty;
+    private final SplittableRandom random;
+
+    // What the cached prediction was solved for
+    private int predictedHitCount = -1;
+    private int predictedPoint = -1;
+    private boolean predictionValid;
+
+    // Target of the paddle center, and the tick from which it applies
+    private int target = -1;
+    private int pendingTarget;
+    private long pendingFromTick;
+
+    /**
+     * @param difficulty Reaction delay and aiming error
+     * @param seed       Seed of the aiming error
+     */
+    public PredictiveController(AiDifficulty difficulty, long seed) {
+        this.difficulty = difficulty;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public int decide(GameWorld world, Paddle paddle) {
+        Ball ball = world.getBall();
+
+        // A hit or a serve changes the path: solve it again
+        if (!predictionValid || ball.getHitCount() != predictedHitCount
+                || world.getPointsPlayed() != predictedPoint) {
+            predictedHitCount = ball.getHitCount();
+            predictedPoint = world.getPointsPlayed();
+            predictionValid = true;
+            pendingTarget = predictTarget(world, paddle, ball);
+            pendingFromTick = world.getTickCount() + difficulty.getReactionTicks();
+        }
+        if (world.getTickCount() >= pendingFromTick) {
+            target = pendingTarget;
+        }
+        if (target < 0) {
+            return STAY;
+        }
+
+        int paddleCenter = paddle.getY() + paddle.getHeight() / 2;
+        if (target < paddleCenter - GameConstants.PADDLE_SPEED) {
+            return UP;
+        }
+        if (target > paddleCenter + GameConstants.PADDLE_SPEED) {
+            return DOWN;
+        }
+        return STAY;
+    }
+
+    /**
+     * Where the paddle center should go: the predicted intercept when the
+     * ball comes towards the paddle, the middle of the field otherwise
+     */
+    private int predictTarget(GameWorld world, Paddle paddle, Ball ball) {
+        int fieldHeight = world.getArena().getHeight();
+        boolean paddleOnLeft = paddle.getX() < world.getArena().getWidth() / 2;
+        int velocityX = ball.getFixedVelocityX();
+        boolean approaching = paddleOnLeft ? velocityX < 0 : velocityX > 0;
+        if (!approaching) {
+            return fieldHeight / 2;
+        }
+
+        // Ball x at which it touches the paddle face
+        int contactX = paddleOnLeft ? paddle.getX() + paddle.getWidth() : paddle.getX() - ball.getWidth();
+        double ticks = (double) FixedPoint.of(contactX - ball.getX()) / velocityX;
+        double y = interceptY(ball.getY(), (double) ball.getFixedVelocityY() / FixedPoint.ONE, ticks,
+                fieldHeight - ball.getHeight());
+
+        int error = difficulty.getMaxErrorPixels();
+        int aimError = error > 0 ? random.nextInt(-error, error + 1) : 0;
+        return (int) Math.round(y) + ball.getHeight() / 2 + aimError;
+    }
+
+    /**
+     * Top of the ball after moving for the given ticks between walls at 0 and
+     * maxY: the unbounded position folded back into [0, maxY]
+     */
+    static double interceptY(double startY, double velocityY, double ticks, double maxY) {
+        if (maxY <= 0) {
+            return 0;
+        }
+        double period = 2 * maxY;
+        double unfolded = (startY + velocityY * ticks) % period;
+        if (unfolded < 0) {
+            unfolded += period;
+        }
+        return unfolded <= maxY ? unfolded : period - unfolded;
+    }
+
+}
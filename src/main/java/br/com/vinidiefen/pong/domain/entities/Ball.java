@@ -1,27 +1,50 @@
 package br.com.vinidiefen.pong.domain.entities;
 
-import java.awt.Color;
-import java.awt.Graphics;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import br.com.vinidiefen.pong.infrastructure.persistence.models.BallModel;
 import br.com.vinidiefen.pong.constants.GameConstants;
 import br.com.vinidiefen.pong.core.collision.CollisionObserver;
+import br.com.vinidiefen.pong.core.physics.FixedPoint;
 
 /**
- * Ball entity that bounces around the screen
+ * Ball entity that bounces around the screen. Position and velocity are
+ * simulated in 16.16 fixed point ({@link FixedPoint}), so speeds can be
+ * fractions of a pixel and a seeded match is bit-identical on every JVM; the
+ * inherited x and y are the whole-pixel position used for drawing and
+ * collision.
  */
 public class Ball extends GameObject implements CollisionObserver {
 
-    private int velocityX;
-    private int velocityY;
+    private int fixedX;
+    private int fixedY;
+    private int fixedVelocityX;
+    private int fixedVelocityY;
     private int initialX;
     private int initialY;
+    private int hitCount;
 
+    // Serve direction source
+    private final RandomGenerator random;
+
+    /**
+     * Ball with an unseeded generator (serves are not reproducible)
+     */
     public Ball(int x, int y) {
+        this(x, y, new SplittableRandom());
+    }
+
+    /**
+     * @param random Generator for the serve directions; seed it for
+     *               reproducible matches
+     */
+    public Ball(int x, int y, RandomGenerator random) {
         super(x, y, GameConstants.BALL_SIZE, GameConstants.BALL_SIZE);
         this.initialX = x;
         this.initialY = y;
+        this.random = Objects.requireNonNull(random, "random must not be null");
         reset();
     }
 
@@ -32,32 +55,30 @@ public class Ball extends GameObject implements CollisionObserver {
     @Override
     public void update() {
         handleVerticalBounds();
-        x += velocityX;
-        y += velocityY;
-    }
-
-    @Override
-    public void render(Graphics g) {
-        g.setColor(Color.WHITE);
-        g.fillRect(x, y, width, height);
+        fixedX += fixedVelocityX;
+        fixedY += fixedVelocityY;
+        syncPixelPosition();
     }
 
     /**
      * Reset ball to center with random direction
      */
     public void reset() {
-        x = initialX;
-        y = initialY;
+        setX(initialX);
+        setY(initialY);
 
-        velocityX = randomDirection() * GameConstants.BALL_INITIAL_SPEED;
-        velocityY = randomDirection() * GameConstants.BALL_INITIAL_SPEED;
+        fixedVelocityX = randomDirection() * FixedPoint.of(GameConstants.BALL_INITIAL_SPEED);
+        fixedVelocityY = randomDirection() * FixedPoint.of(GameConstants.BALL_INITIAL_SPEED);
+
+        // Serving from the center must not be interpolated across the field
+        syncPreviousPosition();
     }
 
     /**
      * Reverse horizontal direction (when hitting paddle)
      */
     private void reverseX() {
-        velocityX = -velocityX;
+        fixedVelocityX = -fixedVelocityX;
     }
 
     /**
@@ -71,7 +92,7 @@ public class Ball extends GameObject implements CollisionObserver {
      * Check if ball went off right side of screen
      */
     public boolean isOffRight() {
-        return x > parent.getWidth();
+        return x > arena.getWidth();
     }
 
     /**
@@ -79,41 +100,123 @@ public class Ball extends GameObject implements CollisionObserver {
      */
     private void increaseSpeed() {
         // Signum uses the sign of the velocity (+1, 0 or -1) to increase speed
-        velocityX += Integer.signum(velocityX) * GameConstants.BALL_SPEED_INCREMENT;
-        velocityY += Integer.signum(velocityY) * GameConstants.BALL_SPEED_INCREMENT;
+        int increment = FixedPoint.of(GameConstants.BALL_SPEED_INCREMENT);
+        fixedVelocityX += Integer.signum(fixedVelocityX) * increment;
+        fixedVelocityY += Integer.signum(fixedVelocityY) * increment;
+    }
+
+    /**
+     * Number of paddle hits since the ball was created
+     */
+    public int getHitCount() {
+        return hitCount;
     }
 
+    @Override
+    public void setX(int x) {
+        super.setX(x);
+        fixedX = FixedPoint.of(x);
+    }
+
+    @Override
+    public void setY(int y) {
+        super.setY(y);
+        fixedY = FixedPoint.of(y);
+    }
+
+    /**
+     * @return Horizontal position in fixed point
+     */
+    public int getFixedX() {
+        return fixedX;
+    }
+
+    public void setFixedX(int fixedX) {
+        this.fixedX = fixedX;
+        syncPixelPosition();
+    }
+
+    /**
+     * @return Vertical position in fixed point
+     */
+    public int getFixedY() {
+        return fixedY;
+    }
+
+    public void setFixedY(int fixedY) {
+        this.fixedY = fixedY;
+        syncPixelPosition();
+    }
+
+    /**
+     * @return Horizontal velocity rounded to whole pixels per tick
+     */
     public int getVelocityX() {
-        return velocityX;
+        return FixedPoint.round(fixedVelocityX);
     }
     
     public void setVelocityX(int velocityX) {
-        this.velocityX = velocityX;
+        this.fixedVelocityX = FixedPoint.of(velocityX);
     }
 
+    /**
+     * @return Vertical velocity rounded to whole pixels per tick
+     */
     public int getVelocityY() {
-        return velocityY;
+        return FixedPoint.round(fixedVelocityY);
     }
     
     public void setVelocityY(int velocityY) {
-        this.velocityY = velocityY;
+        this.fixedVelocityY = FixedPoint.of(velocityY);
+    }
+
+    /**
+     * @return Horizontal velocity in fixed point (pixels per tick)
+     */
+    public int getFixedVelocityX() {
+        return fixedVelocityX;
+    }
+
+    public void setFixedVelocityX(int fixedVelocityX) {
+        this.fixedVelocityX = fixedVelocityX;
+    }
+
+    /**
+     * @return Vertical velocity in fixed point (pixels per tick)
+     */
+    public int getFixedVelocityY() {
+        return fixedVelocityY;
+    }
+
+    public void setFixedVelocityY(int fixedVelocityY) {
+        this.fixedVelocityY = fixedVelocityY;
+    }
+
+    /**
+     * Derive the whole-pixel position from the fixed-point one
+     */
+    private void syncPixelPosition() {
+        x = FixedPoint.toInt(fixedX);
+        y = FixedPoint.toInt(fixedY);
     }
 
     private void handleVerticalBounds() {
-        if (parent == null) {
+        if (arena == null) {
             return;
         }
 
-        boolean hitTop = y <= 0;
-        boolean hitBottom = y + height >= parent.getHeight();
+        int bottom = FixedPoint.of(arena.getHeight() - height);
+        boolean hitTop = fixedY <= 0;
+        boolean hitBottom = fixedY >= bottom;
         if (hitTop || hitBottom) {
-            velocityY = -velocityY;
-            y = hitTop ? 0 : parent.getHeight() - height;
+            fixedVelocityY = -fixedVelocityY;
+            fixedY = hitTop ? 0 : bottom;
+            syncPixelPosition();
         }
     }
 
     private int randomDirection() {
-        return ThreadLocalRandom.current().nextBoolean() ? 1 : -1;
+        return random.nextBoolean() ? 1 : -1;
     }
 
     @Override
@@ -121,7 +224,7 @@ public class Ball extends GameObject implements CollisionObserver {
         reverseX();
 
         // Adjust ball position to prevent getting stuck
-        if (getVelocityX() > 0) {
+        if (fixedVelocityX > 0) {
             setX(other.getX() + other.getWidth());
         } else {
             setX(other.getX() - getWidth());
@@ -129,6 +232,17 @@ public class Ball extends GameObject implements CollisionObserver {
 
         // Increase speed on each hit for difficulty
         increaseSpeed();
+        hitCount++;
+    }
+
+    @Override
+    public void onCollision(GameObject other, int timeOfImpact) {
+        onCollision(other);
+
+        // Spend the rest of the tick moving away from the paddle face
+        int remaining = FixedPoint.ONE - timeOfImpact;
+        fixedX += FixedPoint.multiply(fixedVelocityX, remaining);
+        syncPixelPosition();
     }
 
 }
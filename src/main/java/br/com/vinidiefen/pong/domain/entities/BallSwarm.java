@@ -0,0 +1,236 @@
+package br.com.vinidiefen.pong.domain.entities;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import br.com.vinidiefen.pong.constants.GameConstants;
+import br.com.vinidiefen.pong.core.engine.Arena;
+
+/**
+ * Thousands of balls stored as a structure of arrays: one primitive array per
+ * field instead of one object per ball, updated in a single tight loop. The
+ * balls bounce on every wall, on each other and on the paddles, and never
+ * score.
+ */
+public class BallSwarm {
+
+    private final float[] x;
+    private final float[] y;
+    private final float[] previousX;
+    private final float[] previousY;
+    private final float[] velocityX;
+    private final float[] velocityY;
+    private final int[] size;
+    private int count;
+
+    private Arena arena;
+
+    /**
+     * @param capacity Maximum number of balls
+     */
+    public BallSwarm(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        size = new int[capacity];
+    }
+
+    public void setArena(Arena arena) {
+        this.arena = arena;
+    }
+
+    /**
+     * Add a ball
+     *
+     * @return Index of the new ball
+     */
+    public int spawn(float ballX, float ballY, float ballVelocityX, float ballVelocityY, int ballSize) {
+        if (count == x.length) {
+            throw new IllegalStateException("Swarm is full: " + count);
+        }
+        int i = count++;
+        x[i] = ballX;
+        y[i] = ballY;
+        previousX[i] = ballX;
+        previousY[i] = ballY;
+        velocityX[i] = ballVelocityX;
+        velocityY[i] = ballVelocityY;
+        size[i] = ballSize;
+        return i;
+    }
+
+    /**
+     * Fill the swarm with balls at random positions and directions
+     *
+     * @param random Generator of the positions and directions; seed it for a
+     *               reproducible swarm
+     */
+    public void spawnRandom(int balls, RandomGenerator random) {
+        RandomGenerator generator = Objects.requireNonNull(random, "random must not be null");
+        int ballSize = GameConstants.MULTI_BALL_SIZE;
+        for (int i = 0; i < balls; i++) {
+            double angle = generator.nextDouble(2 * Math.PI);
+            float speed = generator.nextFloat(GameConstants.MULTI_BALL_MIN_SPEED, GameConstants.MULTI_BALL_MAX_SPEED);
+            spawn(generator.nextFloat(arena.getWidth() - ballSize),
+                    generator.nextFloat(arena.getHeight() - ballSize),
+                    // StrictMath gives the same bits on every JVM; Math may not
+                    (float) StrictMath.cos(angle) * speed,
+                    (float) StrictMath.sin(angle) * speed,
+                    ballSize);
+        }
+    }
+
+    /**
+     * Move every ball one tick, bouncing on the arena walls. Contacts with
+     * other balls and entities are resolved by the CollisionDetector.
+     */
+    public void update() {
+        float width = arena.getWidth();
+        float height = arena.getHeight();
+
+        for (int i = 0; i < count; i++) {
+            float s = size[i];
+            float bx = x[i];
+            float by = y[i];
+            float vx = velocityX[i];
+            float vy = velocityY[i];
+            previousX[i] = bx;
+            previousY[i] = by;
+
+            bx += vx;
+            by += vy;
+
+            // Walls: mirror the overshoot back into the arena
+            if (bx < 0) {
+                bx = -bx;
+                vx = -vx;
+            } else if (bx + s > width) {
+                bx = 2 * (width - s) - bx;
+                vx = -vx;
+            }
+            if (by < 0) {
+                by = -by;
+                vy = -vy;
+            } else if (by + s > height) {
+                by = 2 * (height - s) - by;
+                vy = -vy;
+            }
+
+            x[i] = bx;
+            y[i] = by;
+            velocityX[i] = vx;
+            velocityY[i] = vy;
+        }
+    }
+
+    /**
+     * Bounce ball i off a solid box (paddle or obstacle) it overlaps, leaving
+     * it on the face it was heading into
+     */
+    public void bounceOff(int i, float left, float top, float right, float bottom) {
+        float s = size[i];
+        float bx = x[i];
+        float by = y[i];
+        if (bx + s <= left || bx >= right || by + s <= top || by >= bottom) {
+            return;
+        }
+
+        // Push out along the shallower axis
+        float overlapX = Math.min(bx + s - left, right - bx);
+        float overlapY = Math.min(by + s - top, bottom - by);
+        if (overlapX <= overlapY) {
+            x[i] = velocityX[i] > 0 ? left - s : right;
+            velocityX[i] = -velocityX[i];
+        } else {
+            y[i] = velocityY[i] > 0 ? top - s : bottom;
+            velocityY[i] = -velocityY[i];
+        }
+    }
+
+    /**
+     * Resolve an overlap between balls i and j. Balls have equal mass, so
+     * they exchange their velocities along the contact axis.
+     */
+    public void collide(int i, int j) {
+        float dx = (x[j] + size[j] * 0.5f) - (x[i] + size[i] * 0.5f);
+        float dy = (y[j] + size[j] * 0.5f) - (y[i] + size[i] * 0.5f);
+        float reach = (size[i] + size[j]) * 0.5f;
+        float overlapX = reach - Math.abs(dx);
+        float overlapY = reach - Math.abs(dy);
+        if (overlapX <= 0 || overlapY <= 0) {
+            return;
+        }
+
+        if (overlapX <= overlapY) {
+            float push = Math.copySign(overlapX * 0.5f, dx);
+            x[i] -= push;
+            x[j] += push;
+            // Only exchange when approaching, or they would stick together
+            if ((velocityX[j] - velocityX[i]) * dx < 0) {
+                float swap = velocityX[i];
+                velocityX[i] = velocityX[j];
+                velocityX[j] = swap;
+            }
+        } else {
+            float push = Math.copySign(overlapY * 0.5f, dy);
+            y[i] -= push;
+            y[j] += push;
+            if ((velocityY[j] - velocityY[i]) * dy < 0) {
+                float swap = velocityY[i];
+                velocityY[i] = velocityY[j];
+                velocityY[j] = swap;
+            }
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public float getX(int i) {
+        return x[i];
+    }
+
+    public float getY(int i) {
+        return y[i];
+    }
+
+    public float getPreviousX(int i) {
+        return previousX[i];
+    }
+
+    public float getPreviousY(int i) {
+        return previousY[i];
+    }
+
+    public float getVelocityX(int i) {
+        return velocityX[i];
+    }
+
+    public float getVelocityY(int i) {
+        return velocityY[i];
+    }
+
+    public int getSize(int i) {
+        return size[i];
+    }
+
+    /**
+     * Copy positions (current and previous tick) and sizes of the first
+     * count balls into the given arrays, which must be at least that long
+     */
+    public void copyTo(float[] toX, float[] toY, float[] toPreviousX, float[] toPreviousY, int[] toSize) {
+        System.arraycopy(x, 0, toX, 0, count);
+        System.arraycopy(y, 0, toY, 0, count);
+        System.arraycopy(previousX, 0, toPreviousX, 0, count);
+        System.arraycopy(previousY, 0, toPreviousY, 0, count);
+        System.arraycopy(size, 0, toSize, 0, count);
+    }
+
+}
@@ -4,6 +4,8 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Stroke;
+
 import br.com.vinidiefen.pong.constants.GameConstants;
 import br.com.vinidiefen.pong.constants.UIConstants;
 
@@ -11,9 +13,12 @@ public class FieldLine extends GameObject {
 
     protected float[] dashPattern = UIConstants.FIELD_LINE_DASH_PATTERN;
 
+    private final Stroke stroke;
+
     public FieldLine() {
         super();
         width = GameConstants.FIELD_LINE_WIDTH;
+        stroke = new BasicStroke(width, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10f, dashPattern, 0f);
     }
 
     @Override
@@ -21,18 +26,21 @@ public class FieldLine extends GameObject {
         // Field line is static
     }
 
-    @Override
+    /**
+     * Draw the dashed center line; static, so it is drawn once into the
+     * arena layer instead of every frame
+     */
     public void render(Graphics g) {
-        if (getParent() == null) {
+        if (arena == null) {
             return;
         }
 
-        int middleScreenX = getParent().getWidth() / 2;
+        int middleScreenX = arena.getWidth() / 2;
 
         Graphics2D g2d = (Graphics2D) g;
         g2d.setColor(Color.WHITE);
-        g2d.setStroke(new BasicStroke(width, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10f, dashPattern, 0f));
-        g2d.drawLine(middleScreenX, 0, middleScreenX, getParent().getHeight());
+        g2d.setStroke(stroke);
+        g2d.drawLine(middleScreenX, 0, middleScreenX, arena.getHeight());
     }
 
 }
@@ -1,21 +1,26 @@
 package br.com.vinidiefen.pong.domain.entities;
 
-import java.awt.Component;
-import java.awt.Graphics;
 import java.awt.Rectangle;
 
+import br.com.vinidiefen.pong.core.engine.Arena;
+
 /**
  * Abstract base class for game objects with position and size
  */
 public abstract class GameObject {
 
-    protected Component parent;
+    protected Arena arena;
 
     protected int x;
     protected int y;
     protected int width;
     protected int height;
 
+    // Position at the start of the current tick, for swept collision and the
+    // render snapshot (which interpolates, see EntityState)
+    protected int previousX;
+    protected int previousY;
+
     public GameObject() {
         
     }
@@ -25,6 +30,7 @@ public abstract class GameObject {
         this.y = y;
         this.width = width;
         this.height = height;
+        syncPreviousPosition();
     }
 
     public int getX() {
@@ -51,12 +57,12 @@ public abstract class GameObject {
         return height;
     }
 
-    public void setParent(Component parent) {
-        this.parent = parent;
+    public void setArena(Arena arena) {
+        this.arena = arena;
     }
 
-    public Component getParent() {
-        return parent;
+    public Arena getArena() {
+        return arena;
     }
 
     /**
@@ -65,15 +71,29 @@ public abstract class GameObject {
     public abstract void update();
 
     /**
-     * Get the bounding box for collision detection
+     * Remember the current position as the start of the tick's movement.
+     * Called before each fixed tick, and after teleporting the entity (reset,
+     * load) so the next frame is not drawn sliding across the field
      */
-    public Rectangle getBounds() {
-        return new Rectangle(x, y, width, height);
+    public void syncPreviousPosition() {
+        previousX = x;
+        previousY = y;
+    }
+
+    public int getPreviousX() {
+        return previousX;
+    }
+
+    public int getPreviousY() {
+        return previousY;
     }
 
     /**
-     * Render the entity
+     * Get the bounding box as a new Rectangle. Collision detection reads the
+     * primitive fields instead, so it never allocates
      */
-    public abstract void render(Graphics g);
+    public Rectangle getBounds() {
+        return new Rectangle(x, y, width, height);
+    }
 
 }
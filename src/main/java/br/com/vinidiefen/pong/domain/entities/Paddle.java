@@ -1,18 +1,20 @@
 package br.com.vinidiefen.pong.domain.entities;
 
-import java.awt.Color;
-import java.awt.Graphics;
-import java.awt.event.KeyEvent;
 
 import br.com.vinidiefen.pong.input.InputObserver;
 import br.com.vinidiefen.pong.constants.GameConstants;
+import br.com.vinidiefen.pong.core.physics.FixedPoint;
 import br.com.vinidiefen.pong.infrastructure.persistence.models.PaddleModel;
 
 /**
- * Paddle entity controlled by player (Observer in Observer pattern)
+ * Paddle entity controlled by player (Observer in Observer pattern). The
+ * vertical position is simulated in 16.16 fixed point, like the ball's.
  */
 public class Paddle extends GameObject implements InputObserver {
 
+    private int fixedY;
+    private int fixedSpeed = FixedPoint.of(GameConstants.PADDLE_SPEED);
+
     private boolean moveUpFlag = false;
     private boolean moveDownFlag = false;
 
@@ -24,6 +26,7 @@ public class Paddle extends GameObject implements InputObserver {
         super(x, y, GameConstants.PADDLE_WIDTH, GameConstants.PADDLE_HEIGHT);
         this.upKey = upKey;
         this.downKey = downKey;
+        this.fixedY = FixedPoint.of(y);
     }
 
     public Paddle(PaddleModel model) {
@@ -44,53 +47,77 @@ public class Paddle extends GameObject implements InputObserver {
         return downKey;
     }
 
+    @Override
+    public void setY(int y) {
+        super.setY(y);
+        fixedY = FixedPoint.of(y);
+    }
+
+    /**
+     * @return Vertical position in fixed point
+     */
+    public int getFixedY() {
+        return fixedY;
+    }
+
+    public void setFixedY(int fixedY) {
+        this.fixedY = fixedY;
+        y = FixedPoint.toInt(fixedY);
+    }
+
+    /**
+     * @param fixedSpeed Movement per tick in fixed point (pixels per tick)
+     */
+    public void setFixedSpeed(int fixedSpeed) {
+        this.fixedSpeed = fixedSpeed;
+    }
+
+    public int getFixedSpeed() {
+        return fixedSpeed;
+    }
+
     @Override
     public void update() {
         // Calculate velocity based on flags
-        int velocityY = 0;
+        int fixedVelocityY = 0;
         if (moveUpFlag) {
-            velocityY -= GameConstants.PADDLE_SPEED;
+            fixedVelocityY -= fixedSpeed;
         }
         if (moveDownFlag) {
-            velocityY += GameConstants.PADDLE_SPEED;
+            fixedVelocityY += fixedSpeed;
         }
 
-        y += velocityY;
+        fixedY += fixedVelocityY;
 
         // Keep paddle within screen bounds
-        if (y < 0) {
-            y = 0;
+        int bottom = FixedPoint.of(arena.getHeight() - height);
+        if (fixedY < 0) {
+            fixedY = 0;
         }
-        if (y + height > parent.getHeight()) {
-            y = parent.getHeight() - height;
+        if (fixedY > bottom) {
+            fixedY = bottom;
         }
+        y = FixedPoint.toInt(fixedY);
     }
 
-    @Override
-    public void render(Graphics g) {
-        g.setColor(Color.WHITE);
-        g.fillRect(x, y, width, height);
+    /**
+     * Set the movement directly, for controllers that do not use the keyboard
+     */
+    public void setMovement(boolean moveUp, boolean moveDown) {
+        this.moveUpFlag = moveUp;
+        this.moveDownFlag = moveDown;
     }
 
     /**
-     * Receive input events from KeyboardHandler
+     * Receive input events from KeyboardHandler, on the thread that ticks
+     * the paddle
      */
     @Override
-    public void onInputChanged(KeyEvent event) {
-        int keyCode = event.getKeyCode();
-
-        if (event.getID() == KeyEvent.KEY_PRESSED) {
-            if (keyCode == upKey) {
-                moveUpFlag = true;
-            } else if (keyCode == downKey) {
-                moveDownFlag = true;
-            }
-        } else if (event.getID() == KeyEvent.KEY_RELEASED) {
-            if (keyCode == upKey) {
-                moveUpFlag = false;
-            } else if (keyCode == downKey) {
-                moveDownFlag = false;
-            }
+    public void onInputChanged(int keyCode, boolean pressed, long timestampNanos) {
+        if (keyCode == upKey) {
+            moveUpFlag = pressed;
+        } else if (keyCode == downKey) {
+            moveDownFlag = pressed;
         }
     }
 
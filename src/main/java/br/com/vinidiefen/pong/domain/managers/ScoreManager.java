@@ -25,11 +25,13 @@ public class ScoreManager {
     private int leftScore;
     private int rightScore;
     private int winningScore;
-    private final Font scoreFont;
+    // Resolved on first render so headless simulations never touch the UI toolkit
+    private Font scoreFont;
+    // Digits of the score being drawn, filled from the end (painting thread)
+    private final char[] scoreDigits = new char[10];
 
     public ScoreManager(int winningScore) {
         this.winningScore = winningScore;
-        this.scoreFont = resolveScoreFont();
         reset();
     }
 
@@ -109,6 +111,17 @@ public class ScoreManager {
      * Render scores on screen
      */
     public void render(Graphics g, int screenWidth, int screenHeight) {
+        render(g, screenWidth, leftScore, rightScore);
+    }
+
+    /**
+     * Render the given scores (e.g. copied into a render snapshot) with this
+     * manager's font
+     */
+    public void render(Graphics g, int screenWidth, int leftScore, int rightScore) {
+        if (scoreFont == null) {
+            scoreFont = resolveScoreFont();
+        }
         g.setColor(Color.WHITE);
         g.setFont(scoreFont);
 
@@ -116,8 +129,16 @@ public class ScoreManager {
         drawScore(g, 3 * screenWidth / 4, rightScore);
     }
 
+    /**
+     * Draw a score without building a string for it every frame
+     */
     private void drawScore(Graphics g, int xPosition, int score) {
-        g.drawString(String.valueOf(score), xPosition, UIConstants.SCORE_TEXT_Y);
+        int start = scoreDigits.length;
+        do {
+            scoreDigits[--start] = (char) ('0' + score % 10);
+            score /= 10;
+        } while (score > 0);
+        g.drawChars(scoreDigits, start, scoreDigits.length - start, xPosition, UIConstants.SCORE_TEXT_Y);
     }
 
     private Font resolveScoreFont() {
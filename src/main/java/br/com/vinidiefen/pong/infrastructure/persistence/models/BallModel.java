@@ -23,6 +23,19 @@ public class BallModel {
     
     @Column(name = "velocity_y", type = "INTEGER", notNull = true)
     private int velocityY;
+    
+    // Exact 16.16 fixed-point state; null in rows saved before these columns
+    @Column(name = "fixed_x", type = "INTEGER")
+    private Integer fixedX;
+    
+    @Column(name = "fixed_y", type = "INTEGER")
+    private Integer fixedY;
+    
+    @Column(name = "fixed_velocity_x", type = "INTEGER")
+    private Integer fixedVelocityX;
+    
+    @Column(name = "fixed_velocity_y", type = "INTEGER")
+    private Integer fixedVelocityY;
 
     public BallModel() {
         // Empty constructor for ORM
@@ -34,6 +47,10 @@ public class BallModel {
         this.y = ball.getY();
         this.velocityX = ball.getVelocityX();
         this.velocityY = ball.getVelocityY();
+        this.fixedX = ball.getFixedX();
+        this.fixedY = ball.getFixedY();
+        this.fixedVelocityX = ball.getFixedVelocityX();
+        this.fixedVelocityY = ball.getFixedVelocityY();
     }
 
     /**
@@ -81,4 +98,36 @@ public class BallModel {
         this.velocityY = velocityY;
     }
 
+    public Integer getFixedX() {
+        return fixedX;
+    }
+
+    public void setFixedX(Integer fixedX) {
+        this.fixedX = fixedX;
+    }
+
+    public Integer getFixedY() {
+        return fixedY;
+    }
+
+    public void setFixedY(Integer fixedY) {
+        this.fixedY = fixedY;
+    }
+
+    public Integer getFixedVelocityX() {
+        return fixedVelocityX;
+    }
+
+    public void setFixedVelocityX(Integer fixedVelocityX) {
+        this.fixedVelocityX = fixedVelocityX;
+    }
+
+    public Integer getFixedVelocityY() {
+        return fixedVelocityY;
+    }
+
+    public void setFixedVelocityY(Integer fixedVelocityY) {
+        this.fixedVelocityY = fixedVelocityY;
+    }
+
 }
@@ -28,6 +28,10 @@ public class MatchModel {
     @Column(name = "score_manager_id", type = "UUID", notNull = true)
     private UUID scoreManagerId;
 
+    // Rows saved before this column existed sort as the oldest
+    @Column(name = "saved_at", type = "BIGINT", notNull = true, defaultValue = "0", indexed = true)
+    private long savedAt;
+
     public MatchModel() {
         // Empty constructor for ORM
     }
@@ -38,6 +42,7 @@ public class MatchModel {
         this.rightPaddleId = rightPaddleId;
         this.ballId = ballId;
         this.scoreManagerId = scoreManagerId;
+        this.savedAt = System.currentTimeMillis();
     }
     
     // Convenience constructor that accepts Model objects and extracts their IDs
@@ -85,4 +90,15 @@ public class MatchModel {
         this.scoreManagerId = scoreManagerId;
     }
 
+    /**
+     * When the match was saved, in milliseconds since the epoch
+     */
+    public long getSavedAt() {
+        return savedAt;
+    }
+
+    public void setSavedAt(long savedAt) {
+        this.savedAt = savedAt;
+    }
+
 }
@@ -23,6 +23,10 @@ public class PaddleModel {
     
     @Column(name = "down_key", type = "INTEGER", notNull = true)
     private int downKey;
+    
+    // Exact 16.16 fixed-point y; null in rows saved before this column
+    @Column(name = "fixed_y", type = "INTEGER")
+    private Integer fixedY;
 
     public PaddleModel() {
         // Empty constructor for ORM
@@ -34,6 +38,7 @@ public class PaddleModel {
         this.y = paddle.getY();
         this.upKey = paddle.getUpKey();
         this.downKey = paddle.getDownKey();
+        this.fixedY = paddle.getFixedY();
     }
 
     /**
@@ -83,4 +88,12 @@ public class PaddleModel {
         this.downKey = downKey;
     }
 
+    public Integer getFixedY() {
+        return fixedY;
+    }
+
+    public void setFixedY(Integer fixedY) {
+        this.fixedY = fixedY;
+    }
+
 }
@@ -1,11 +1,21 @@
 package br.com.vinidiefen.pong.infrastructure.persistence.repositories;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import br.com.vinidiefen.pong.constants.DatabaseConstants;
 import br.com.vinidiefen.pong.infrastructure.persistence.repositories.connection.PostgresConnection;
 import br.com.vinidiefen.pong.infrastructure.persistence.repositories.mapper.ResultSetMapper;
 import br.com.vinidiefen.pong.infrastructure.persistence.repositories.metadata.EntityMetadata;
@@ -31,20 +41,32 @@ public class CRUDRepository<T> {
     }
 
     public void create(T obj) {
-        String sql = DMLGenerator.generateInsert(metadata);
-
-        try (var conn = PostgresConnection.getInstance().getConnection();
-             var stmt = conn.prepareStatement(sql)) {
-            
-            // Set parameters
-            setParameters(stmt, obj, metadata.getFieldMetadataList());
-            
-            stmt.executeUpdate();
+        try (var conn = PostgresConnection.getInstance().getConnection()) {
+            insert(conn, List.of(obj));
         } catch (SQLException e) {
             throw new RuntimeException("Failed to create entity", e);
         }
     }
 
+    /**
+     * Creates an entity as part of a transaction
+     */
+    public void create(T obj, UnitOfWork unitOfWork) {
+        createAll(List.of(obj), unitOfWork);
+    }
+
+    /**
+     * Creates several entities as part of a transaction, with one multi-row
+     * INSERT per chunk of rows instead of one statement per entity
+     */
+    public void createAll(List<T> objs, UnitOfWork unitOfWork) {
+        try {
+            insert(unitOfWork.getConnection(), objs);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to create entities", e);
+        }
+    }
+
     public T read(Object id) {
         String sql = DMLGenerator.generateSelectById(metadata);
 
@@ -65,7 +87,258 @@ public class CRUDRepository<T> {
     }
 
     /**
-     * Finds all entities
+     * Reads an entity and the entities its foreign keys reference in one
+     * query (one round trip instead of one per reference). The JOIN is
+     * generated from the @ForeignKey metadata; only foreign keys pointing to
+     * the table of one of the given classes are followed.
+     * 
+     * @param id                Primary key of the entity
+     * @param referencedClasses Model classes of the referenced tables
+     * @return the joined entity, or null if no entity has that ID
+     */
+    public JoinedEntity<T> readWithReferences(Object id, Class<?>... referencedClasses) {
+        Joins joins = joinsTo(referencedClasses);
+        String sql = DMLGenerator.generateSelectByIdWithJoins(metadata, joins.foreignKeys, joins.referenced);
+
+        try (var conn = PostgresConnection.getInstance().getConnection();
+             var stmt = conn.prepareStatement(sql)) {
+
+            stmt.setObject(1, id);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                return mapJoinedRow(rs, joins);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to read entity with references", e);
+        }
+    }
+
+    /**
+     * Finds all entities with the entities their foreign keys reference, in
+     * one query instead of one extra query per entity and reference. Only
+     * foreign keys pointing to the table of one of the given classes are
+     * followed.
+     * 
+     * @param referencedClasses Model classes of the referenced tables
+     */
+    public List<JoinedEntity<T>> findAllWithReferences(Class<?>... referencedClasses) {
+        Joins joins = joinsTo(referencedClasses);
+        String sql = DMLGenerator.generateSelectAllWithJoins(metadata, joins.foreignKeys, joins.referenced);
+        List<JoinedEntity<T>> results = new ArrayList<>();
+
+        try (var conn = PostgresConnection.getInstance().getConnection();
+             var stmt = conn.createStatement();
+             var rs = stmt.executeQuery(sql)) {
+
+            while (rs.next()) {
+                results.add(mapJoinedRow(rs, joins));
+            }
+            return results;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find all entities with references", e);
+        }
+    }
+
+    /**
+     * Foreign keys of this entity that point to one of the given classes,
+     * with the metadata of the table each one references
+     */
+    private Joins joinsTo(Class<?>[] referencedClasses) {
+        List<EntityMetadata<?>> candidates = new ArrayList<>();
+        for (Class<?> referencedClass : referencedClasses) {
+            candidates.add(new EntityMetadata<>(referencedClass));
+        }
+
+        Joins joins = new Joins();
+        for (FieldMetadata field : metadata.getFieldMetadataList()) {
+            if (!field.hasForeignKey()) {
+                continue;
+            }
+            for (EntityMetadata<?> candidate : candidates) {
+                if (candidate.getTableName().equals(field.getForeignKey().table())) {
+                    joins.foreignKeys.add(field);
+                    joins.referenced.add(candidate);
+                    break;
+                }
+            }
+        }
+        if (joins.foreignKeys.isEmpty() && referencedClasses.length > 0) {
+            throw new IllegalArgumentException("No foreign key of " + metadata.getTableName()
+                    + " references the given classes");
+        }
+        return joins;
+    }
+
+    private JoinedEntity<T> mapJoinedRow(ResultSet rs, Joins joins) throws SQLException {
+        T entity = ResultSetMapper.mapToEntity(rs, metadata, DMLGenerator.joinAlias(0) + "_");
+        Map<String, Object> references = new LinkedHashMap<>();
+        for (int i = 0; i < joins.foreignKeys.size(); i++) {
+            String prefix = DMLGenerator.joinAlias(i + 1) + "_";
+            references.put(joins.foreignKeys.get(i).getColumnName(),
+                    ResultSetMapper.mapToEntity(rs, joins.referenced.get(i), prefix));
+        }
+        return new JoinedEntity<>(entity, references);
+    }
+
+    /**
+     * Finds one page of entities ordered by a column, ties broken by primary
+     * key. Pages are found by keyset (the last row of the previous page)
+     * instead of OFFSET, so every page costs the same however deep it is.
+     * 
+     * @param orderColumn Column to order by, ideally @Column(indexed = true)
+     * @param after       Last entity of the previous page, or null for the
+     *                    first page
+     * @param limit       Maximum number of entities in the page
+     */
+    public List<T> findPage(String orderColumn, SortOrder order, T after, int limit) {
+        checkLimit(limit);
+        FieldMetadata orderField = metadata.getFieldMetadata(orderColumn);
+        String sql = DMLGenerator.generateSelectPage(metadata, orderColumn, order, after != null);
+        List<T> results = new ArrayList<>();
+
+        try (var conn = PostgresConnection.getInstance().getConnection();
+             var stmt = conn.prepareStatement(sql)) {
+
+            setPageParameters(stmt, orderField, after, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(ResultSetMapper.mapToEntity(rs, metadata));
+                }
+            }
+            return results;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find page of entities", e);
+        }
+    }
+
+    /**
+     * Finds the entities with the highest values of a column, highest first
+     */
+    public List<T> findLatest(String orderColumn, int limit) {
+        return findPage(orderColumn, SortOrder.DESCENDING, null, limit);
+    }
+
+    /**
+     * {@link #findPage} with the entities their foreign keys reference, as in
+     * {@link #findAllWithReferences}
+     */
+    public List<JoinedEntity<T>> findPageWithReferences(String orderColumn, SortOrder order, T after, int limit,
+            Class<?>... referencedClasses) {
+        checkLimit(limit);
+        FieldMetadata orderField = metadata.getFieldMetadata(orderColumn);
+        Joins joins = joinsTo(referencedClasses);
+        String sql = DMLGenerator.generateSelectPageWithJoins(metadata, joins.foreignKeys, joins.referenced,
+                orderColumn, order, after != null);
+        List<JoinedEntity<T>> results = new ArrayList<>();
+
+        try (var conn = PostgresConnection.getInstance().getConnection();
+             var stmt = conn.prepareStatement(sql)) {
+
+            setPageParameters(stmt, orderField, after, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(mapJoinedRow(rs, joins));
+                }
+            }
+            return results;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find page of entities with references", e);
+        }
+    }
+
+    /**
+     * Streams every entity ordered by a column, fetching
+     * {@link DatabaseConstants#STREAM_FETCH_SIZE} rows per round trip instead
+     * of loading the whole table. The stream holds a pooled connection until
+     * it is closed, so always use it in try-with-resources:
+     * 
+     * try (Stream<MatchModel> matches = matchRepo.stream("saved_at", SortOrder.ASCENDING)) {
+     *     matches.forEach(...);
+     * }
+     */
+    public Stream<T> stream(String orderColumn, SortOrder order) {
+        // Rejects unknown columns before they reach the SQL
+        metadata.getFieldMetadata(orderColumn);
+        String sql = DMLGenerator.generateSelectAllOrdered(metadata, orderColumn, order);
+
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+            conn = PostgresConnection.getInstance().getConnection();
+            // The PostgreSQL driver only honors the fetch size inside a
+            // transaction; the pool rolls it back when the connection returns
+            conn.setAutoCommit(false);
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(DatabaseConstants.STREAM_FETCH_SIZE);
+            rs = stmt.executeQuery();
+        } catch (SQLException e) {
+            try {
+                close(rs, stmt, conn);
+            } catch (RuntimeException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw new RuntimeException("Failed to stream entities", e);
+        }
+
+        ResultSet rows = rs;
+        PreparedStatement statement = stmt;
+        Connection connection = conn;
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!rows.next()) {
+                        return false;
+                    }
+                    action.accept(ResultSetMapper.mapToEntity(rows, metadata));
+                    return true;
+                } catch (SQLException e) {
+                    throw new RuntimeException("Failed to stream entities", e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> close(rows, statement, connection));
+    }
+
+    private static void close(ResultSet rs, Statement stmt, Connection conn) {
+        // Closed in reverse order; null resources are skipped
+        try (conn; stmt; rs) {
+            // Nothing to do
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to close entity stream", e);
+        }
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+    }
+
+    /**
+     * Sets the keyset and page size parameters of a page query
+     */
+    private void setPageParameters(PreparedStatement stmt, FieldMetadata orderField, T after, int limit)
+            throws SQLException {
+        int index = 1;
+        if (after != null) {
+            stmt.setObject(index++, orderField.getValue(after));
+            stmt.setObject(index++, metadata.getPrimaryKeyField().getValue(after));
+        }
+        stmt.setInt(index, limit);
+    }
+
+    /**
+     * Finds all entities. Loads the whole table; prefer {@link #findPage} or
+     * {@link #stream} for tables that grow.
      */
     public List<T> findAll() {
         String sql = DMLGenerator.generateSelectAll(metadata);
@@ -84,15 +357,47 @@ public class CRUDRepository<T> {
         }
     }
 
+    /**
+     * Inserts the entities with as few statements as the driver's parameter
+     * limit allows
+     */
+    private void insert(Connection conn, List<T> objs) throws SQLException {
+        List<FieldMetadata> fields = metadata.getFieldMetadataList();
+        int rowsPerStatement = Math.max(1, DatabaseConstants.MAX_STATEMENT_PARAMETERS / fields.size());
+
+        for (int from = 0; from < objs.size(); from += rowsPerStatement) {
+            List<T> rows = objs.subList(from, Math.min(objs.size(), from + rowsPerStatement));
+            String sql = DMLGenerator.generateInsert(metadata, rows.size());
+
+            try (var stmt = conn.prepareStatement(sql)) {
+                for (int i = 0; i < rows.size(); i++) {
+                    setParameters(stmt, rows.get(i), fields, i * fields.size());
+                }
+                stmt.executeUpdate();
+            }
+        }
+    }
+
     /**
      * Helper method to set prepared statement parameters
+     * 
+     * @param offset Parameters already set for previous rows
      */
-    private void setParameters(PreparedStatement stmt, T obj, List<FieldMetadata> fields) throws SQLException {
+    private void setParameters(PreparedStatement stmt, T obj, List<FieldMetadata> fields, int offset)
+            throws SQLException {
         for (int i = 0; i < fields.size(); i++) {
             FieldMetadata field = fields.get(i);
             Object value = field.getValue(obj);
-            stmt.setObject(i + 1, value);
+            stmt.setObject(offset + i + 1, value);
         }
     }
 
+    /**
+     * Foreign keys to follow in a joined SELECT, in join order
+     */
+    private static class Joins {
+        private final List<FieldMetadata> foreignKeys = new ArrayList<>();
+        private final List<EntityMetadata<?>> referenced = new ArrayList<>();
+    }
+
 }
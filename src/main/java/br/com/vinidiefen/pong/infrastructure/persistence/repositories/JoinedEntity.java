@@ -0,0 +1,37 @@
+package br.com.vinidiefen.pong.infrastructure.persistence.repositories;
+
+import java.util.Map;
+
+/**
+ * An entity loaded together with the entities its foreign keys reference,
+ * keyed by foreign key column
+ */
+public class JoinedEntity<T> {
+
+    private final T entity;
+    private final Map<String, Object> references;
+
+    public JoinedEntity(T entity, Map<String, Object> references) {
+        this.entity = entity;
+        this.references = references;
+    }
+
+    public T getEntity() {
+        return entity;
+    }
+
+    /**
+     * Entity referenced through a foreign key column, or null if the
+     * referenced row does not exist
+     * 
+     * @param foreignKeyColumn Column of the foreign key, e.g. "ball_id"
+     * @param type             Class of the referenced entity
+     */
+    public <R> R getReference(String foreignKeyColumn, Class<R> type) {
+        if (!references.containsKey(foreignKeyColumn)) {
+            throw new IllegalArgumentException("No joined reference for column " + foreignKeyColumn);
+        }
+        return type.cast(references.get(foreignKeyColumn));
+    }
+
+}
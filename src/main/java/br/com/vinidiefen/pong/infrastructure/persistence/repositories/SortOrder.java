@@ -0,0 +1,31 @@
+package br.com.vinidiefen.pong.infrastructure.persistence.repositories;
+
+/**
+ * Direction of an ordered query
+ */
+public enum SortOrder {
+    ASCENDING("ASC", ">"),
+    DESCENDING("DESC", "<");
+
+    private final String keyword;
+    private final String afterOperator;
+
+    SortOrder(String keyword, String afterOperator) {
+        this.keyword = keyword;
+        this.afterOperator = afterOperator;
+    }
+
+    /**
+     * SQL keyword for ORDER BY
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Comparison that selects the rows coming after a key in this order
+     */
+    public String getAfterOperator() {
+        return afterOperator;
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.vinidiefen.pong.infrastructure.persistence.repositories;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import br.com.vinidiefen.pong.infrastructure.persistence.repositories.connection.PostgresConnection;
+
+/**
+ * A database transaction shared by several repository calls (similar to
+ * Hibernate's Session/Transaction pair). Every call made with the same unit
+ * of work runs on one connection, and nothing is visible to others until
+ * {@link #commit()}. Closing it without committing rolls everything back.
+ * 
+ * Usage:
+ * try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+ *     paddleRepo.createAll(paddles, unitOfWork);
+ *     matchRepo.create(match, unitOfWork);
+ *     unitOfWork.commit();
+ * }
+ */
+public class UnitOfWork implements AutoCloseable {
+
+    private final Connection connection;
+    private boolean committed;
+    private boolean closed;
+
+    private UnitOfWork(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Starts a transaction on a pooled connection
+     */
+    public static UnitOfWork begin() {
+        Connection connection = null;
+        try {
+            connection = PostgresConnection.getInstance().getConnection();
+            connection.setAutoCommit(false);
+            return new UnitOfWork(connection);
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new RuntimeException("Failed to begin transaction", e);
+        }
+    }
+
+    /**
+     * Connection the repositories run their statements on
+     */
+    Connection getConnection() {
+        if (closed || committed) {
+            throw new IllegalStateException("Unit of work is already " + (closed ? "closed" : "committed"));
+        }
+        return connection;
+    }
+
+    /**
+     * Makes every change of this unit of work permanent at once
+     */
+    public void commit() {
+        try {
+            getConnection().commit();
+            committed = true;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to commit transaction", e);
+        }
+    }
+
+    /**
+     * Rolls back if not committed and returns the connection
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (!committed) {
+                connection.rollback();
+            }
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            System.err.println("Failed to roll back transaction: " + e.getMessage());
+        } finally {
+            closeQuietly(connection);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            System.err.println("Failed to close connection: " + e.getMessage());
+        }
+    }
+
+}
@@ -42,4 +42,10 @@ public @interface Column {
      */
     String defaultValue() default "";
 
+    /**
+     * Whether to index this column together with the primary key, for
+     * ordered and keyset-paginated queries on it.
+     */
+    boolean indexed() default false;
+
 }
@@ -0,0 +1,368 @@
+package br.com.vinidiefen.pong.infrastructure.persistence.repositories.connection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.com.vinidiefen.pong.core.metrics.LatencyHistogram;
+
+/**
+ * Bounded pool of JDBC connections. Borrowed connections are proxies whose
+ * close() hands the real connection back to the pool, so callers keep using
+ * try-with-resources as with a fresh connection.
+ * 
+ * At most maxSize connections are open; a borrower waits up to the borrow
+ * timeout for one to be returned. Connections idle for a while are
+ * validated before being handed out, and idle connections above minSize are
+ * closed by a background evictor. Connections are opened on demand, so the
+ * game starts even when the database is down.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /**
+     * Opens a new physical connection
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    /**
+     * A physical connection and when it was last returned
+     */
+    private static final class PooledConnection {
+        private final Connection connection;
+        private long lastUsedNanos;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            this.lastUsedNanos = System.nanoTime();
+        }
+    }
+
+    private final ConnectionFactory factory;
+    private final int minSize;
+    private final int maxSize;
+    private final long borrowTimeoutNanos;
+    private final long idleTimeoutNanos;
+    private final long validationIntervalNanos;
+    private final int validationTimeoutSeconds;
+
+    // One permit per connection that may be handed out
+    private final Semaphore permits;
+
+    // Most recently returned first, so the oldest ones are evicted
+    private final Deque<PooledConnection> idle = new ArrayDeque<>();
+    private int openCount;
+
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    // Metrics
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong validationFailureCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final LatencyHistogram borrowWait = new LatencyHistogram();
+
+    /**
+     * @param factory                  Opens physical connections
+     * @param minSize                  Idle connections never evicted
+     * @param maxSize                  Connections open at once
+     * @param borrowTimeoutMillis      Wait for a free connection
+     * @param idleTimeoutMillis        Idle time before eviction above minSize
+     * @param evictionIntervalMillis   How often idle connections are checked
+     * @param validationIntervalMillis Idle time before validating on borrow
+     * @param validationTimeoutSeconds Limit for one validation
+     */
+    public ConnectionPool(ConnectionFactory factory, int minSize, int maxSize, long borrowTimeoutMillis,
+            long idleTimeoutMillis, long evictionIntervalMillis, long validationIntervalMillis,
+            int validationTimeoutSeconds) {
+        if (minSize < 0 || maxSize <= 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Pool sizes must satisfy 0 <= min <= max and max > 0");
+        }
+        if (borrowTimeoutMillis < 0 || idleTimeoutMillis <= 0 || evictionIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Pool timeouts must be positive");
+        }
+        this.factory = factory;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.borrowTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.validationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(validationIntervalMillis);
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Connection Pool Evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(this::evictIdle, evictionIntervalMillis, evictionIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrow a connection, waiting up to the borrow timeout for a free one.
+     * Closing it returns it to the pool.
+     * 
+     * @return a pooled Connection
+     * @throws SQLException if no connection could be obtained in time or
+     *                      opening one failed
+     */
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(borrowTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                timeoutCount.incrementAndGet();
+                throw new SQLTransientConnectionException("Timed out after "
+                        + TimeUnit.NANOSECONDS.toMillis(borrowTimeoutNanos) + " ms waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            PooledConnection pooled = takeIdle();
+            if (pooled == null) {
+                pooled = open();
+            }
+            borrowCount.incrementAndGet();
+            borrowWait.record(System.nanoTime() - start);
+            return lease(pooled);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Most recently used idle connection that is still valid, or null
+     */
+    private PooledConnection takeIdle() {
+        while (true) {
+            PooledConnection pooled;
+            synchronized (this) {
+                pooled = idle.pollFirst();
+            }
+            if (pooled == null) {
+                return null;
+            }
+            if (isUsable(pooled)) {
+                return pooled;
+            }
+            validationFailureCount.incrementAndGet();
+            discard(pooled);
+        }
+    }
+
+    /**
+     * Connections returned recently are trusted; older ones are checked with
+     * a round trip, since the server or network may have dropped them
+     */
+    private boolean isUsable(PooledConnection pooled) {
+        if (System.nanoTime() - pooled.lastUsedNanos < validationIntervalNanos) {
+            return true;
+        }
+        try {
+            return pooled.connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private PooledConnection open() throws SQLException {
+        // Holding a permit guarantees there is room for one more
+        synchronized (this) {
+            openCount++;
+        }
+        try {
+            PooledConnection pooled = new PooledConnection(factory.open());
+            createdCount.incrementAndGet();
+            return pooled;
+        } catch (SQLException | RuntimeException e) {
+            synchronized (this) {
+                openCount--;
+            }
+            throw e;
+        }
+    }
+
+    private Connection lease(PooledConnection pooled) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new Lease(pooled));
+    }
+
+    /**
+     * Put a connection back once its borrower closed it. A connection left
+     * inside a transaction is rolled back first; one that fails to reset is
+     * closed instead.
+     */
+    private void release(PooledConnection pooled) {
+        boolean reusable = !closed;
+        try {
+            if (reusable && !pooled.connection.getAutoCommit()) {
+                pooled.connection.rollback();
+                pooled.connection.setAutoCommit(true);
+            }
+            reusable = reusable && !pooled.connection.isClosed();
+        } catch (SQLException e) {
+            reusable = false;
+        }
+
+        if (reusable) {
+            pooled.lastUsedNanos = System.nanoTime();
+            synchronized (this) {
+                idle.addFirst(pooled);
+            }
+        } else {
+            discard(pooled);
+        }
+        permits.release();
+    }
+
+    private void discard(PooledConnection pooled) {
+        synchronized (this) {
+            openCount--;
+        }
+        closeQuietly(pooled.connection);
+    }
+
+    /**
+     * Close connections idle for longer than the idle timeout, keeping at
+     * least minSize open
+     */
+    private void evictIdle() {
+        long now = System.nanoTime();
+        List<PooledConnection> expired = new ArrayList<>();
+        synchronized (this) {
+            Iterator<PooledConnection> oldestFirst = idle.descendingIterator();
+            while (oldestFirst.hasNext() && openCount - expired.size() > minSize) {
+                PooledConnection pooled = oldestFirst.next();
+                if (now - pooled.lastUsedNanos < idleTimeoutNanos) {
+                    break;
+                }
+                oldestFirst.remove();
+                expired.add(pooled);
+            }
+            openCount -= expired.size();
+        }
+        for (PooledConnection pooled : expired) {
+            closeQuietly(pooled.connection);
+        }
+        evictedCount.addAndGet(expired.size());
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            System.err.println("Failed to close pooled connection: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Close idle connections and stop handing out new ones; borrowed
+     * connections are closed when returned
+     */
+    @Override
+    public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        List<PooledConnection> remaining;
+        synchronized (this) {
+            remaining = new ArrayList<>(idle);
+            idle.clear();
+            openCount -= remaining.size();
+        }
+        for (PooledConnection pooled : remaining) {
+            closeQuietly(pooled.connection);
+        }
+    }
+
+    /**
+     * Current counters of the pool
+     */
+    public ConnectionPoolStats getStats() {
+        int open;
+        int idleCount;
+        synchronized (this) {
+            open = openCount;
+            idleCount = idle.size();
+        }
+        return new ConnectionPoolStats(open, idleCount, maxSize, permits.getQueueLength(), createdCount.get(),
+                borrowCount.get(), timeoutCount.get(), validationFailureCount.get(), evictedCount.get());
+    }
+
+    /**
+     * Time from asking for a connection to getting one, including opening it
+     */
+    public LatencyHistogram getBorrowWaitHistogram() {
+        return borrowWait;
+    }
+
+    /**
+     * Borrower's view of a pooled connection: forwards every call until
+     * closed, then refuses them
+     */
+    private final class Lease implements InvocationHandler {
+
+        private final PooledConnection pooled;
+        private boolean returned;
+
+        private Lease(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || pooled.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + pooled.connection;
+                default:
+                    break;
+            }
+            if (returned) {
+                throw new SQLException("Connection was already returned to the pool");
+            }
+            try {
+                return method.invoke(pooled.connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+}
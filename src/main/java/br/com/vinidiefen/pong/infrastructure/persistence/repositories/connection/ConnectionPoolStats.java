@@ -0,0 +1,88 @@
+package br.com.vinidiefen.pong.infrastructure.persistence.repositories.connection;
+
+/**
+ * Snapshot of a {@link ConnectionPool}'s counters
+ */
+public class ConnectionPoolStats {
+
+    private final int openConnections;
+    private final int idleConnections;
+    private final int maxSize;
+    private final int waitingBorrowers;
+    private final long createdCount;
+    private final long borrowCount;
+    private final long timeoutCount;
+    private final long validationFailureCount;
+    private final long evictedCount;
+
+    public ConnectionPoolStats(int openConnections, int idleConnections, int maxSize, int waitingBorrowers,
+            long createdCount, long borrowCount, long timeoutCount, long validationFailureCount,
+            long evictedCount) {
+        this.openConnections = openConnections;
+        this.idleConnections = idleConnections;
+        this.maxSize = maxSize;
+        this.waitingBorrowers = waitingBorrowers;
+        this.createdCount = createdCount;
+        this.borrowCount = borrowCount;
+        this.timeoutCount = timeoutCount;
+        this.validationFailureCount = validationFailureCount;
+        this.evictedCount = evictedCount;
+    }
+
+    public int getOpenConnections() {
+        return openConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    /**
+     * Connections open but not idle (including ones being returned)
+     */
+    public int getActiveConnections() {
+        return openConnections - idleConnections;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Threads currently waiting for a connection (estimate)
+     */
+    public int getWaitingBorrowers() {
+        return waitingBorrowers;
+    }
+
+    /**
+     * Physical connections opened since the pool started
+     */
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    public long getBorrowCount() {
+        return borrowCount;
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    public long getValidationFailureCount() {
+        return validationFailureCount;
+    }
+
+    public long getEvictedCount() {
+        return evictedCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("open=%d/%d idle=%d active=%d waiting=%d created=%d borrowed=%d timeouts=%d"
+                + " invalid=%d evicted=%d", openConnections, maxSize, idleConnections, getActiveConnections(),
+                waitingBorrowers, createdCount, borrowCount, timeoutCount, validationFailureCount, evictedCount);
+    }
+
+}
@@ -5,20 +5,35 @@ import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Optional;
 
+import br.com.vinidiefen.pong.constants.DatabaseConstants;
+
 /**
  * Singleton class for managing PostgreSQL database connections.
  * Uses environment variables or defaults to local Docker configuration.
+ * Connections come from a bounded {@link ConnectionPool}, so repeated
+ * repository calls reuse them instead of paying a TCP and authentication
+ * handshake each time.
  */
 public class PostgresConnection {
     private static PostgresConnection instance;
     private final String url;
     private final String user;
     private final String password;
+    private final ConnectionPool pool;
 
     private PostgresConnection() {
         this.url = Optional.ofNullable(System.getenv("POSTGRES_URL")).orElse("jdbc:postgresql://localhost:5432/pws");
         this.user = Optional.ofNullable(System.getenv("POSTGRES_USER")).orElse("docker");
         this.password = Optional.ofNullable(System.getenv("POSTGRES_PASSWORD")).orElse("docker");
+
+        int minSize = Optional.ofNullable(System.getenv("POSTGRES_POOL_MIN_SIZE")).map(Integer::parseInt)
+                .orElse(DatabaseConstants.POOL_MIN_SIZE);
+        int maxSize = Optional.ofNullable(System.getenv("POSTGRES_POOL_MAX_SIZE")).map(Integer::parseInt)
+                .orElse(DatabaseConstants.POOL_MAX_SIZE);
+        this.pool = new ConnectionPool(() -> DriverManager.getConnection(url, user, password), minSize, maxSize,
+                DatabaseConstants.POOL_BORROW_TIMEOUT_MS, DatabaseConstants.POOL_IDLE_TIMEOUT_MS,
+                DatabaseConstants.POOL_EVICTION_INTERVAL_MS, DatabaseConstants.POOL_VALIDATION_INTERVAL_MS,
+                DatabaseConstants.POOL_VALIDATION_TIMEOUT_SECONDS);
     }
 
     /**
@@ -26,7 +41,7 @@ public class PostgresConnection {
      * 
      * @return the PostgresConnection instance
      */
-    public static PostgresConnection getInstance() {
+    public static synchronized PostgresConnection getInstance() {
         if (instance == null) {
             instance = new PostgresConnection();
         }
@@ -34,13 +49,24 @@ public class PostgresConnection {
     }
 
     /**
-     * Gets a new database connection.
+     * Borrows a database connection from the pool. Closing it returns it to
+     * the pool.
      * 
      * @return a Connection to the database
-     * @throws SQLException if a database access error occurs
+     * @throws SQLException if a database access error occurs or no
+     *                      connection is free within the borrow timeout
      */
     public Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(url, user, password);
+        return pool.getConnection();
+    }
+
+    /**
+     * Gets the connection pool, e.g. to read its metrics.
+     * 
+     * @return the ConnectionPool
+     */
+    public ConnectionPool getPool() {
+        return pool;
     }
     
 }
@@ -17,13 +17,27 @@ public class ResultSetMapper {
      * Maps a ResultSet row to an entity object
      */
     public static <T> T mapToEntity(ResultSet rs, EntityMetadata<T> metadata) throws SQLException {
+        return mapToEntity(rs, metadata, "");
+    }
+
+    /**
+     * Maps the columns of one table in a joined row, read as prefix + column
+     * name. Returns null when the row has no match for that table (a LEFT
+     * JOIN with a null primary key).
+     */
+    public static <T> T mapToEntity(ResultSet rs, EntityMetadata<T> metadata, String columnPrefix)
+            throws SQLException {
+        if (!columnPrefix.isEmpty()
+                && rs.getObject(columnPrefix + metadata.getPrimaryKeyField().getColumnName()) == null) {
+            return null;
+        }
         try {
             // Create new instance of the entity
             T entity = metadata.getEntityClass().getDeclaredConstructor().newInstance();
 
             // Map each column to the corresponding field
             for (FieldMetadata fieldMetadata : metadata.getFieldMetadataList()) {
-                Object value = getValueFromResultSet(rs, fieldMetadata);
+                Object value = getValueFromResultSet(rs, fieldMetadata, columnPrefix);
                 fieldMetadata.setValue(entity, value);
             }
 
@@ -34,10 +48,19 @@ public class ResultSetMapper {
         }
     }
 
-    private static Object getValueFromResultSet(ResultSet rs, FieldMetadata fieldMetadata) throws SQLException {
-        String columnName = fieldMetadata.getColumnName();
+    private static Object getValueFromResultSet(ResultSet rs, FieldMetadata fieldMetadata, String columnPrefix)
+            throws SQLException {
         Class<?> fieldType = fieldMetadata.getField().getType();
+        Object value = readColumn(rs, columnPrefix + fieldMetadata.getColumnName(), fieldType);
+
+        // getInt and friends read SQL NULL as 0; wrapper fields keep the null
+        if (!fieldType.isPrimitive() && rs.wasNull()) {
+            return null;
+        }
+        return value;
+    }
 
+    private static Object readColumn(ResultSet rs, String columnName, Class<?> fieldType) throws SQLException {
         // Handle different types
         if (fieldType == int.class || fieldType == Integer.class) {
             return rs.getInt(columnName);
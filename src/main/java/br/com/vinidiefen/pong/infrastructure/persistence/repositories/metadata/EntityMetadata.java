@@ -81,6 +81,17 @@ public class EntityMetadata<T> {
                 .orElseThrow(() -> new IllegalStateException("No primary key found for entity " + entityClass.getName()));
     }
 
+    /**
+     * Gets the field mapped to a column
+     */
+    public FieldMetadata getFieldMetadata(String columnName) {
+        return fieldMetadataList.stream()
+                .filter(field -> field.getColumnName().equals(columnName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "No column " + columnName + " in entity " + entityClass.getName()));
+    }
+
     public List<String> getColumnNames() {
         return fieldMetadataList.stream()
                 .map(FieldMetadata::getColumnName)
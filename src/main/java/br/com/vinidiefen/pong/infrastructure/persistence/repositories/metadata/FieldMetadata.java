@@ -57,6 +57,10 @@ public class FieldMetadata {
         return column.defaultValue();
     }
 
+    public boolean isIndexed() {
+        return column.indexed();
+    }
+
     public boolean hasForeignKey() {
         return foreignKey != null && !foreignKey.table().isEmpty() && !foreignKey.column().isEmpty();
     }
@@ -83,16 +83,43 @@ public class SchemaManager {
     }
 
     /**
-     * Creates a table for the given entity class.
+     * Creates or upgrades the tables of the given entity classes, in
+     * dependency order. Existing rows are kept.
+     * 
+     * @return true if every statement succeeded
+     */
+    public boolean createTables(Class<?>... entityClasses) {
+        java.util.List<Class<?>> sortedClasses = DependencyAnalyzer.sortForCreation(Set.of(entityClasses));
+
+        boolean succeeded = true;
+        for (Class<?> entityClass : sortedClasses) {
+            succeeded &= createTable(entityClass);
+        }
+        return succeeded;
+    }
+
+    /**
+     * Creates a table for the given entity class, or upgrades an existing
+     * one: columns added to the entity since the table was created are
+     * added (ALTER TABLE ... ADD COLUMN IF NOT EXISTS), and missing indexes
+     * are created. Existing rows are kept.
      * 
      * @param entityClass the entity class
+     * @return true if every statement succeeded
      */
-    public void createTable(Class<?> entityClass) {
+    public boolean createTable(Class<?> entityClass) {
         EntityMetadata<?> metadata = new EntityMetadata<>(entityClass);
         String sql = DDLGenerator.generateCreateTable(metadata);
 
         System.out.println("Creating table: " + metadata.getTableName());
-        executeSQL(sql);
+        boolean succeeded = executeSQL(sql);
+        for (String statement : DDLGenerator.generateAddColumns(metadata)) {
+            succeeded &= executeSQL(statement);
+        }
+        for (String statement : DDLGenerator.generateCreateIndexes(metadata)) {
+            succeeded &= executeSQL(statement);
+        }
+        return succeeded;
     }
 
     /**
@@ -122,13 +149,16 @@ public class SchemaManager {
      * Executes a SQL statement.
      * 
      * @param sql the SQL statement to execute
+     * @return false if it failed
      */
-    private void executeSQL(String sql) {
+    private boolean executeSQL(String sql) {
         try (Connection conn = PostgresConnection.getInstance().getConnection();
                 Statement stmt = conn.createStatement()) {
             stmt.execute(sql);
+            return true;
         } catch (SQLException e) {
             System.err.println("SQL execution error: " + e.getMessage());
+            return false;
         }
     }
 }
@@ -71,6 +71,35 @@ public class DDLGenerator {
         return constraint.toString();
     }
 
+    /**
+     * Generates an ALTER TABLE ... ADD COLUMN IF NOT EXISTS statement for each
+     * column but the primary key, so a table created by an older version
+     * gains the columns added since. Existing columns are left untouched; a
+     * new NOT NULL column needs a default value to fill the existing rows.
+     */
+    public static <T> List<String> generateAddColumns(EntityMetadata<T> metadata) {
+        return metadata.getFieldMetadataList().stream()
+                .filter(field -> !field.isPrimaryKey())
+                .map(field -> "ALTER TABLE " + metadata.getTableName()
+                        + " ADD COLUMN IF NOT EXISTS " + generateColumnDefinition(field))
+                .toList();
+    }
+
+    /**
+     * Generates a CREATE INDEX statement for each indexed column, on
+     * (column, primary key) so ordered and keyset-paginated queries on it
+     * read the index instead of sorting the table
+     */
+    public static <T> List<String> generateCreateIndexes(EntityMetadata<T> metadata) {
+        String primaryKey = metadata.getPrimaryKeyField().getColumnName();
+        return metadata.getFieldMetadataList().stream()
+                .filter(FieldMetadata::isIndexed)
+                .map(field -> "CREATE INDEX IF NOT EXISTS "
+                        + metadata.getTableName() + "_" + field.getColumnName() + "_idx ON "
+                        + metadata.getTableName() + " (" + field.getColumnName() + ", " + primaryKey + ")")
+                .toList();
+    }
+
     /**
      * Generates DROP TABLE statement
      */
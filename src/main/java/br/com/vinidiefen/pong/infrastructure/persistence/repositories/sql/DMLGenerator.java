@@ -3,6 +3,7 @@ package br.com.vinidiefen.pong.infrastructure.persistence.repositories.sql;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import br.com.vinidiefen.pong.infrastructure.persistence.repositories.SortOrder;
 import br.com.vinidiefen.pong.infrastructure.persistence.repositories.metadata.EntityMetadata;
 import br.com.vinidiefen.pong.infrastructure.persistence.repositories.metadata.FieldMetadata;
 
@@ -16,6 +17,17 @@ public class DMLGenerator {
      * Generates INSERT statement
      */
     public static <T> String generateInsert(EntityMetadata<T> metadata) {
+        return generateInsert(metadata, 1);
+    }
+
+    /**
+     * Generates a multi-row INSERT statement, inserting rowCount rows in one
+     * round trip
+     */
+    public static <T> String generateInsert(EntityMetadata<T> metadata, int rowCount) {
+        if (rowCount <= 0) {
+            throw new IllegalArgumentException("rowCount must be positive");
+        }
         StringBuilder sql = new StringBuilder();
         sql.append("INSERT INTO ")
            .append(metadata.getTableName())
@@ -23,13 +35,17 @@ public class DMLGenerator {
 
         List<String> columnNames = metadata.getColumnNames();
         sql.append(String.join(", ", columnNames));
-        sql.append(") VALUES (");
+        sql.append(") VALUES ");
 
-        String placeholders = columnNames.stream()
+        String row = columnNames.stream()
                 .map(name -> "?")
-                .collect(Collectors.joining(", "));
-        sql.append(placeholders);
-        sql.append(")");
+                .collect(Collectors.joining(", ", "(", ")"));
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
 
         return sql.toString();
     }
@@ -44,6 +60,118 @@ public class DMLGenerator {
                " WHERE " + pkField.getColumnName() + " = ?";
     }
 
+    /**
+     * Generates a SELECT of one entity by ID together with the rows its
+     * foreign keys reference, as LEFT JOINs in a single statement (see
+     * {@link #generateSelectAllWithJoins})
+     */
+    public static String generateSelectByIdWithJoins(EntityMetadata<?> root, List<FieldMetadata> foreignKeys,
+            List<EntityMetadata<?>> referenced) {
+        return generateSelectAllWithJoins(root, foreignKeys, referenced)
+                + " WHERE " + joinAlias(0) + "." + root.getPrimaryKeyField().getColumnName() + " = ?";
+    }
+
+    /**
+     * Generates a SELECT of every entity together with the rows its foreign
+     * keys reference, as LEFT JOINs in a single statement. Columns are
+     * aliased by table position to avoid name clashes: the root's as
+     * "t0_column", the table referenced by the n-th foreign key as
+     * "tn_column" (see {@link #joinAlias(int)}).
+     * 
+     * @param foreignKeys Foreign key fields of the root to follow
+     * @param referenced  Metadata of the table each foreign key points to
+     */
+    public static String generateSelectAllWithJoins(EntityMetadata<?> root, List<FieldMetadata> foreignKeys,
+            List<EntityMetadata<?>> referenced) {
+        if (foreignKeys.size() != referenced.size()) {
+            throw new IllegalArgumentException("Each foreign key needs the metadata of its referenced table");
+        }
+        StringBuilder sql = new StringBuilder("SELECT ");
+        appendAliasedColumns(sql, root, joinAlias(0));
+        for (int i = 0; i < referenced.size(); i++) {
+            sql.append(", ");
+            appendAliasedColumns(sql, referenced.get(i), joinAlias(i + 1));
+        }
+
+        sql.append(" FROM ").append(root.getTableName()).append(' ').append(joinAlias(0));
+        for (int i = 0; i < referenced.size(); i++) {
+            String alias = joinAlias(i + 1);
+            sql.append(" LEFT JOIN ").append(referenced.get(i).getTableName()).append(' ').append(alias)
+               .append(" ON ").append(alias).append('.').append(foreignKeys.get(i).getForeignKey().column())
+               .append(" = ").append(joinAlias(0)).append('.').append(foreignKeys.get(i).getColumnName());
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Generates an ordered, keyset-paginated SELECT: up to a page of rows
+     * ordered by a column (ties broken by primary key), optionally starting
+     * after a given row. The row is identified by its (column, primary key)
+     * values instead of an OFFSET, so each page costs the same no matter how
+     * deep it is.
+     * 
+     * Parameters: the previous row's column value and primary key (only when
+     * afterKey is set), then the page size.
+     */
+    public static <T> String generateSelectPage(EntityMetadata<T> metadata, String orderColumn, SortOrder order,
+            boolean afterKey) {
+        return generateSelectAll(metadata)
+                + generateKeysetPage(metadata.getTableName(), orderColumn,
+                        metadata.getPrimaryKeyField().getColumnName(), order, afterKey);
+    }
+
+    /**
+     * Generates {@link #generateSelectAllWithJoins} ordered and
+     * keyset-paginated by a column of the root table (see
+     * {@link #generateSelectPage})
+     */
+    public static String generateSelectPageWithJoins(EntityMetadata<?> root, List<FieldMetadata> foreignKeys,
+            List<EntityMetadata<?>> referenced, String orderColumn, SortOrder order, boolean afterKey) {
+        return generateSelectAllWithJoins(root, foreignKeys, referenced)
+                + generateKeysetPage(joinAlias(0), orderColumn, root.getPrimaryKeyField().getColumnName(), order,
+                        afterKey);
+    }
+
+    /**
+     * Generates a SELECT of every entity ordered by a column, ties broken by
+     * primary key
+     */
+    public static <T> String generateSelectAllOrdered(EntityMetadata<T> metadata, String orderColumn,
+            SortOrder order) {
+        return generateSelectAll(metadata) + generateOrderBy(metadata.getTableName(), orderColumn,
+                metadata.getPrimaryKeyField().getColumnName(), order);
+    }
+
+    private static String generateKeysetPage(String table, String orderColumn, String primaryKey, SortOrder order,
+            boolean afterKey) {
+        String where = "";
+        if (afterKey) {
+            // Row comparison, so the (column, primary key) index can be used
+            where = " WHERE (" + table + "." + orderColumn + ", " + table + "." + primaryKey + ") "
+                    + order.getAfterOperator() + " (?, ?)";
+        }
+        return where + generateOrderBy(table, orderColumn, primaryKey, order) + " LIMIT ?";
+    }
+
+    private static String generateOrderBy(String table, String orderColumn, String primaryKey, SortOrder order) {
+        return " ORDER BY " + table + "." + orderColumn + " " + order.getKeyword()
+                + ", " + table + "." + primaryKey + " " + order.getKeyword();
+    }
+
+    /**
+     * Alias of a table in a joined SELECT; its columns are read back as
+     * alias + "_" + column
+     */
+    public static String joinAlias(int position) {
+        return "t" + position;
+    }
+
+    private static void appendAliasedColumns(StringBuilder sql, EntityMetadata<?> metadata, String alias) {
+        sql.append(metadata.getColumnNames().stream()
+                .map(column -> alias + "." + column + " AS " + alias + "_" + column)
+                .collect(Collectors.joining(", ")));
+    }
+
     /**
      * Generates SELECT ALL statement
      */
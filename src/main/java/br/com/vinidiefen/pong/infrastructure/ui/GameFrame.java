@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import javax.swing.JFrame;
 
+import br.com.vinidiefen.pong.constants.GameMode;
 import br.com.vinidiefen.pong.infrastructure.ui.panels.MenuPanel;
 import br.com.vinidiefen.pong.infrastructure.ui.panels.GamePanel;
 
@@ -54,6 +55,13 @@ public class GameFrame extends JFrame {
      * Starts the game (called by menu)
      */
     public void startGame() {
+        startGame(GameMode.CLASSIC);
+    }
+
+    /**
+     * Starts the game in the given mode
+     */
+    public void startGame(GameMode mode) {
         // Remove menu panel
         if (menuPanel != null) {
             remove(menuPanel);
@@ -62,9 +70,9 @@ public class GameFrame extends JFrame {
         
         // Create and add game panel
         if (matchId != null) {
-            gamePanel = new GamePanel(matchId);
+            gamePanel = new GamePanel(matchId, mode);
         } else {
-            gamePanel = new GamePanel();
+            gamePanel = new GamePanel(mode);
         }
         add(gamePanel);
         
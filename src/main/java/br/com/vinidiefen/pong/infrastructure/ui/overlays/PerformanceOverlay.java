@@ -0,0 +1,145 @@
+package br.com.vinidiefen.pong.infrastructure.ui.overlays;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.vinidiefen.pong.constants.UIConstants;
+import br.com.vinidiefen.pong.core.metrics.EngineMetrics;
+import br.com.vinidiefen.pong.core.metrics.EngineMetrics.Phase;
+import br.com.vinidiefen.pong.core.metrics.HistogramSnapshot;
+import br.com.vinidiefen.pong.core.metrics.RuntimeStats;
+
+/**
+ * Toggleable debug overlay with per-phase timings, tick/frame rates and JVM
+ * heap/GC figures. Text is rebuilt a few times per second, not every frame.
+ * May be toggled from any thread; rendered from the painting thread only
+ * (EDT or game loop in active rendering).
+ */
+public class PerformanceOverlay {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final long BYTES_PER_MB = 1024 * 1024;
+
+    private final EngineMetrics metrics;
+    private final Font font = new Font(Font.MONOSPACED, Font.PLAIN, UIConstants.HUD_FONT_SIZE);
+
+    private volatile boolean visible;
+    private volatile boolean restartPending;
+    private List<String> lines = List.of();
+    private long lastRefreshNanos;
+    private long lastTicks;
+    private long lastFrames;
+    private long lastGcCount;
+
+    public PerformanceOverlay(EngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public void toggle() {
+        // Start a fresh interval so old samples do not skew the first view
+        restartPending = !visible;
+        visible = !visible;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Draw the overlay in the top-left corner if it is visible
+     */
+    public void render(Graphics g) {
+        if (!visible) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (restartPending) {
+            restartPending = false;
+            lastRefreshNanos = 0;
+            refresh(now);
+        } else if (now - lastRefreshNanos >= UIConstants.HUD_REFRESH_MS * 1_000_000L) {
+            refresh(now);
+        }
+
+        g.setFont(font);
+        FontMetrics fontMetrics = g.getFontMetrics();
+        int lineHeight = fontMetrics.getHeight();
+        int boxWidth = 0;
+        for (String line : lines) {
+            boxWidth = Math.max(boxWidth, fontMetrics.stringWidth(line));
+        }
+
+        int padding = UIConstants.HUD_PADDING;
+        g.setColor(UIConstants.HUD_BACKGROUND);
+        g.fillRect(padding, padding, boxWidth + 2 * padding, lines.size() * lineHeight + 2 * padding);
+
+        g.setColor(UIConstants.HUD_TEXT_COLOR);
+        int y = 2 * padding + fontMetrics.getAscent();
+        for (String line : lines) {
+            g.drawString(line, 2 * padding, y);
+            y += lineHeight;
+        }
+    }
+
+    /**
+     * Drain the timing histograms and rebuild the text for the elapsed
+     * interval; input latency is shown since the start of the game
+     */
+    private void refresh(long now) {
+        double elapsedSeconds = lastRefreshNanos == 0 ? 0 : (now - lastRefreshNanos) / NANOS_PER_SECOND;
+        long ticks = metrics.getTickCount();
+        long frames = metrics.getFrameCount();
+        RuntimeStats runtime = RuntimeStats.capture();
+
+        List<String> text = new ArrayList<>();
+        text.add(String.format("ticks/s %6.1f   frames/s %6.1f   dropped %d",
+                rate(ticks - lastTicks, elapsedSeconds), rate(frames - lastFrames, elapsedSeconds),
+                metrics.getDroppedTicks()));
+        text.add(String.format("%-9s %9s %9s %9s", "phase(us)", "p50", "p99", "max"));
+        for (Phase phase : Phase.values()) {
+            HistogramSnapshot snapshot = metrics.getHistogram(phase).drain();
+            text.add(String.format("%-9s %9.1f %9.1f %9.1f", phase.getLabel(),
+                    micros(snapshot.getPercentile(50)), micros(snapshot.getPercentile(99)),
+                    micros(snapshot.getMax())));
+        }
+        HistogramSnapshot jitter = metrics.getWakeJitterHistogram().drain();
+        text.add(String.format("%-9s %9.1f %9.1f %9.1f", "jitter",
+                micros(jitter.getPercentile(50)), micros(jitter.getPercentile(99)), micros(jitter.getMax())));
+        // Cumulative: a half-second interval holds too few key events for a p99
+        text.add(String.format("%-9s %9s %9s %9s %7s", "input(ms)", "p50", "p95", "p99", "n"));
+        addLatencyLine(text, "to tick", metrics.getInputToTickHistogram().snapshot());
+        addLatencyLine(text, "to frame", metrics.getInputToDisplayHistogram().snapshot());
+        text.add(String.format("heap %d/%d MB   gc %d (+%d) %d ms",
+                runtime.getHeapUsed() / BYTES_PER_MB, runtime.getHeapMax() / BYTES_PER_MB,
+                runtime.getGcCount(), runtime.getGcCount() - lastGcCount, runtime.getGcTimeMillis()));
+
+        lines = text;
+        lastRefreshNanos = now;
+        lastTicks = ticks;
+        lastFrames = frames;
+        lastGcCount = runtime.getGcCount();
+    }
+
+    private static void addLatencyLine(List<String> text, String label, HistogramSnapshot snapshot) {
+        text.add(String.format("%-9s %9.2f %9.2f %9.2f %7d", label, millis(snapshot.getPercentile(50)),
+                millis(snapshot.getPercentile(95)), millis(snapshot.getPercentile(99)), snapshot.getCount()));
+    }
+
+    private static double rate(long count, double seconds) {
+        return seconds <= 0 ? 0 : count / seconds;
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+}
@@ -1,54 +1,105 @@
 package br.com.vinidiefen.pong.infrastructure.ui.panels;
 
 import java.awt.Color;
-import java.awt.Font;
 import java.awt.Graphics;
+import java.awt.Rectangle;
 import java.awt.Toolkit;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import javax.swing.JButton;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 
 import br.com.vinidiefen.pong.application.services.GameStateService;
 import br.com.vinidiefen.pong.application.services.GameStateService.LoadedGameState;
-import br.com.vinidiefen.pong.constants.GameConstants;
+import br.com.vinidiefen.pong.constants.GameMode;
 import br.com.vinidiefen.pong.constants.GameState;
 import br.com.vinidiefen.pong.constants.InputConstants;
 import br.com.vinidiefen.pong.constants.UIConstants;
-import br.com.vinidiefen.pong.core.collision.CollisionDetector;
+import br.com.vinidiefen.pong.core.engine.EntityState;
 import br.com.vinidiefen.pong.core.engine.GameLoop;
+import br.com.vinidiefen.pong.core.engine.GameWorld;
+import br.com.vinidiefen.pong.core.engine.LoopTarget;
+import br.com.vinidiefen.pong.core.engine.RenderSnapshot;
+import br.com.vinidiefen.pong.core.engine.SnapshotBuffer;
+import br.com.vinidiefen.pong.core.metrics.EngineMetrics;
+import br.com.vinidiefen.pong.core.metrics.EngineMetrics.Phase;
+import br.com.vinidiefen.pong.core.metrics.InputLatencyTracker;
+import br.com.vinidiefen.pong.core.simulation.AiDifficulty;
+import br.com.vinidiefen.pong.core.simulation.PaddleControllers;
 import br.com.vinidiefen.pong.domain.entities.Ball;
-import br.com.vinidiefen.pong.domain.entities.FieldLine;
 import br.com.vinidiefen.pong.domain.entities.Paddle;
 import br.com.vinidiefen.pong.domain.managers.ScoreManager;
+import br.com.vinidiefen.pong.infrastructure.persistence.models.BallModel;
+import br.com.vinidiefen.pong.infrastructure.persistence.models.PaddleModel;
 import br.com.vinidiefen.pong.infrastructure.ui.factories.ButtonFactory;
-import br.com.vinidiefen.pong.infrastructure.ui.utils.FontUtils;
+import br.com.vinidiefen.pong.infrastructure.ui.overlays.PerformanceOverlay;
+import br.com.vinidiefen.pong.infrastructure.ui.rendering.ActiveRenderCanvas;
+import br.com.vinidiefen.pong.infrastructure.ui.rendering.DirtyRegions;
+import br.com.vinidiefen.pong.infrastructure.ui.rendering.FrameRenderer;
+import br.com.vinidiefen.pong.input.InputEventQueue;
 import br.com.vinidiefen.pong.input.handlers.GameShortcuts;
 import br.com.vinidiefen.pong.input.handlers.KeyboardHandler;
 
 /**
- * Game Panel where the Pong game runs
+ * Game Panel where the Pong game runs: a view over a headless {@link GameWorld}
  */
-public class GamePanel extends JPanel {
-
-    // Game entities
-    private Paddle leftPaddle;
-    private Paddle rightPaddle;
-    private FieldLine fieldLine;
-    private Ball ball;
+public class GamePanel extends JPanel implements LoopTarget {
+
+    private static final AiDifficulty COMPUTER_DIFFICULTY = AiDifficulty.MEDIUM;
+
+    // Dirty region slots of the moving entities
+    private static final int LEFT_PADDLE_SLOT = 0;
+    private static final int RIGHT_PADDLE_SLOT = 1;
+    private static final int BALL_SLOT = 2;
+    private static final int ENTITY_SLOTS = 3;
+    // Score band
+    private static final int EXTRA_DIRTY_REGIONS = 1;
+
+    // Simulated match (paddles, ball, collisions and scores)
+    private GameWorld world;
+    private final GameMode mode;
+
+    // World state handed from the loop to the painting thread
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+    private volatile boolean snapshotStale;
+
+    // Draws arena, entities, scores and overlays
+    private FrameRenderer frameRenderer;
+
+    // Frame being presented and what changed since the previous one
+    // (painting thread)
+    private final DirtyRegions dirtyRegions = new DirtyRegions(ENTITY_SLOTS, EXTRA_DIRTY_REGIONS);
+    private final AtomicBoolean framePending = new AtomicBoolean();
+    private RenderSnapshot frameSnapshot;
+    private double frameAlpha = 1.0;
+    private int frameLeftScore;
+    private int frameRightScore;
+    private GameState frameState;
+    private boolean frameShowsOverlay;
 
     // Game systems
-    private ScoreManager scoreManager;
     private KeyboardHandler keyboardHandler;
-    private CollisionDetector collisionDetector;
     private GameShortcuts shortcuts;
     private GameStateService gameStateService;
 
+    // Instrumentation
+    private final EngineMetrics metrics = new EngineMetrics();
+    private final PerformanceOverlay performanceOverlay = new PerformanceOverlay(metrics);
+    private final InputLatencyTracker inputLatency = new InputLatencyTracker(metrics);
+
     // Game states/loop control
     private GameLoop gameLoopThread;
     private volatile GameState currentState = GameState.STOPPED;
+    private volatile double renderAlpha = 1.0;
+
+    // Active rendering (null when frames go through Swing repaint)
+    private ActiveRenderCanvas activeCanvas;
+    private final Consumer<Graphics> framePainter = this::presentFullFrame;
 
     // Match ID to load on initialization
     private UUID pendingMatchIdToLoad;
@@ -59,26 +110,38 @@ public class GamePanel extends JPanel {
     private JButton loadButton;
 
     public GamePanel() {
-        this(null);
+        this(GameMode.CLASSIC);
+    }
+
+    public GamePanel(GameMode mode) {
+        this(null, mode);
     }
 
     public GamePanel(UUID matchId) {
+        this(matchId, GameMode.CLASSIC);
+    }
+
+    public GamePanel(UUID matchId, GameMode mode) {
         setBackground(Color.BLACK);
         setFocusable(true);
         // Use absolute positioning for the pause button
         setLayout(null); // Use absolute positioning for the pause button
 
         this.pendingMatchIdToLoad = matchId;
+        this.mode = mode;
         // Listen for component resize events to get actual dimensions
         addComponentListener(new ComponentAdapter() {
             @Override
             public void componentResized(ComponentEvent e) {
                 // Initialize game after we have real dimensions
-                if (leftPaddle == null && getWidth() > 0 && getHeight() > 0) {
+                if (world == null && getWidth() > 0 && getHeight() > 0) {
                     initializeGame();
                 }
                 // Update all button positions on resize
                 updateAllButtonPositions();
+                if (activeCanvas != null) {
+                    activeCanvas.setBounds(0, 0, getWidth(), getHeight());
+                }
             }
         });
     }
@@ -102,48 +165,41 @@ public class GamePanel extends JPanel {
      * Initialize all game objects and systems
      */
     private void initializeGame() {
+        // Create the match with the panel's real dimensions
+        world = new GameWorld(getWidth(), getHeight(), mode);
+        world.setMetrics(metrics);
+        if (mode.hasComputerOpponent()) {
+            world.setControllers(null, PaddleControllers.predictive(COMPUTER_DIFFICULTY, world.getSeed()));
+        }
+
         // Instance the game loop thread
-        this.gameLoopThread = new GameLoop(this);
-
-        // Create paddles with configurable keys
-        int middleScreenY = getHeight() / 2;
-        int middleScreenX = getWidth() / 2;
-
-        int paddleMargin = GameConstants.PADDLE_MARGIN;
-        int middlePaddleY = GameConstants.PADDLE_HEIGHT / 2;
-
-        int middleBall = GameConstants.BALL_SIZE / 2;
-        leftPaddle = new Paddle(paddleMargin, middleScreenY - middlePaddleY, InputConstants.LEFT_PADDLE_UP,
-                InputConstants.LEFT_PADDLE_DOWN);
-        rightPaddle = new Paddle(getWidth() - paddleMargin - GameConstants.PADDLE_WIDTH, middleScreenY - middlePaddleY,
-                InputConstants.RIGHT_PADDLE_UP, InputConstants.RIGHT_PADDLE_DOWN);
-        // Create ball
-        ball = new Ball(middleScreenX - middleBall, middleScreenY - middleBall);
-        // Create field line
-        fieldLine = new FieldLine();
-
-        // Set up parent references
-        leftPaddle.setParent(this);
-        rightPaddle.setParent(this);
-        ball.setParent(this);
-        fieldLine.setParent(this);
+        this.gameLoopThread = new GameLoop(this, world.getClock());
+        gameLoopThread.setMetrics(metrics);
+
+        frameRenderer = new FrameRenderer(world.getArena(), world.getScoreManager());
 
         // Initialize systems
-        scoreManager = new ScoreManager(GameConstants.WINNING_SCORE);
-        collisionDetector = new CollisionDetector();
-        keyboardHandler = new KeyboardHandler();
-        shortcuts = new GameShortcuts();
+        // Key events wait in a queue until the loop thread samples them
+        keyboardHandler = new KeyboardHandler(new InputEventQueue(InputConstants.INPUT_QUEUE_CAPACITY));
+        shortcuts = new GameShortcuts(this::requestExit);
         gameStateService = new GameStateService();
 
         // Register paddles as observers (Observer pattern)
-        keyboardHandler.addInputObserver(leftPaddle);
-        keyboardHandler.addInputObserver(rightPaddle);
+        keyboardHandler.addInputObserver(world.getLeftPaddle());
+        keyboardHandler.addInputObserver(world.getRightPaddle());
         keyboardHandler.addInputObserver(shortcuts);
+        keyboardHandler.addInputObserver((keyCode, pressed, timestampNanos) -> {
+            // Input latency only makes sense while ticks are running
+            if (gameLoopShouldUpdate()) {
+                inputLatency.inputReceived(timestampNanos);
+            }
+            if (pressed && keyCode == InputConstants.PERFORMANCE_OVERLAY_KEY) {
+                performanceOverlay.toggle();
+                repaint();
+            }
+        });
         addKeyListener(keyboardHandler);
 
-        // Register collision detection between ball and paddles
-        collisionDetector.addCollisionObserver(ball, leftPaddle, rightPaddle);
-
         // Create pause button
         createPauseButton();
 
@@ -152,22 +208,38 @@ public class GamePanel extends JPanel {
         // Create load button (initially hidden)
         createLoadButton();
 
-        // Start game loop with Thread-based implementation
-        currentState = GameState.PLAYING;
-        gameLoopThread.start();
+        // Added last so the buttons stay on top of the heavyweight canvas
+        if (UIConstants.ACTIVE_RENDERING) {
+            createActiveCanvas();
+        }
 
-        // If there's a pending match to load, load it now
+        // If there's a pending match to load, load it before the loop runs
         if (pendingMatchIdToLoad != null) {
             try {
                 LoadedGameState state = gameStateService.loadGameState(pendingMatchIdToLoad);
                 applyLoadedState(state);
                 pendingMatchIdToLoad = null; // Clear the pending load
-                repaint();
             } catch (Exception e) {
                 System.err.println("Error loading pending game state: " + e.getMessage());
                 e.printStackTrace();
             }
         }
+
+        // First frame; the loop thread publishes from now on
+        snapshots.publish(world);
+
+        // Start game loop with Thread-based implementation
+        currentState = GameState.PLAYING;
+        gameLoopThread.start();
+    }
+
+    /**
+     * Creates the canvas the game loop presents frames on
+     */
+    private void createActiveCanvas() {
+        activeCanvas = new ActiveRenderCanvas();
+        activeCanvas.setBounds(0, 0, getWidth(), getHeight());
+        add(activeCanvas);
     }
 
     /**
@@ -238,7 +310,8 @@ public class GamePanel extends JPanel {
      */
     private void saveGameState() {
         try {
-            gameStateService.saveGameState(leftPaddle, rightPaddle, ball, scoreManager);
+            gameStateService.saveGameState(world.getLeftPaddle(), world.getRightPaddle(), world.getBall(),
+                    world.getScoreManager());
             setButtonFeedback(saveButton, UIConstants.BTN_FEEDBACK_SAVED, UIConstants.SUCCESS_COLOR); // Visual feedback
         } catch (Exception e) {
             System.err.println("Error saving game state: " + e.getMessage());
@@ -251,16 +324,14 @@ public class GamePanel extends JPanel {
      */
     private void loadGameState() {
         try {
-            var matches = gameStateService.getAllMatches();
-            if (matches.isEmpty()) {
+            var lastMatch = gameStateService.getLatestMatch();
+            if (lastMatch == null) {
                 System.out.println("No saved games found!");
                 setButtonFeedback(loadButton, UIConstants.BTN_FEEDBACK_EMPTY, UIConstants.WARNING_COLOR);
                 return;
             }
 
-            // Get the last match (most recent)
-            UUID lastMatchId = matches.get(matches.size() - 1).getId();
-            LoadedGameState state = gameStateService.loadGameState(lastMatchId);
+            LoadedGameState state = gameStateService.loadGameState(lastMatch.getId());
 
             // Apply loaded state
             applyLoadedState(state);
@@ -279,25 +350,61 @@ public class GamePanel extends JPanel {
         }
     }
 
+    /**
+     * Restores a paddle, exactly when the save has its fixed-point position
+     */
+    private static void restorePaddle(Paddle paddle, PaddleModel model) {
+        paddle.setX(model.getX());
+        paddle.setY(model.getY());
+        if (model.getFixedY() != null) {
+            paddle.setFixedY(model.getFixedY());
+        }
+    }
+
     /**
      * Applies a loaded game state to the current game components
      */
     private void applyLoadedState(LoadedGameState state) {
+        Paddle leftPaddle = world.getLeftPaddle();
+        Paddle rightPaddle = world.getRightPaddle();
+        Ball ball = world.getBall();
+        ScoreManager scoreManager = world.getScoreManager();
+
         // Restore paddle positions
-        leftPaddle.setX(state.getLeftPaddle().getX());
-        leftPaddle.setY(state.getLeftPaddle().getY());
-        rightPaddle.setX(state.getRightPaddle().getX());
-        rightPaddle.setY(state.getRightPaddle().getY());
+        restorePaddle(leftPaddle, state.getLeftPaddle());
+        restorePaddle(rightPaddle, state.getRightPaddle());
+
+        // Restore ball position and velocity, exactly when the save has the
+        // fixed-point values and to the whole pixel for older saves
+        BallModel ballModel = state.getBall();
+        ball.setX(ballModel.getX());
+        ball.setY(ballModel.getY());
+        ball.setVelocityX(ballModel.getVelocityX());
+        ball.setVelocityY(ballModel.getVelocityY());
+        if (ballModel.getFixedX() != null) {
+            ball.setFixedX(ballModel.getFixedX());
+        }
+        if (ballModel.getFixedY() != null) {
+            ball.setFixedY(ballModel.getFixedY());
+        }
+        if (ballModel.getFixedVelocityX() != null) {
+            ball.setFixedVelocityX(ballModel.getFixedVelocityX());
+        }
+        if (ballModel.getFixedVelocityY() != null) {
+            ball.setFixedVelocityY(ballModel.getFixedVelocityY());
+        }
 
-        // Restore ball position and velocity
-        ball.setX(state.getBall().getX());
-        ball.setY(state.getBall().getY());
-        ball.setVelocityX(state.getBall().getVelocityX());
-        ball.setVelocityY(state.getBall().getVelocityY());
+        // Loaded positions are teleports, not movement to interpolate
+        leftPaddle.syncPreviousPosition();
+        rightPaddle.syncPreviousPosition();
+        ball.syncPreviousPosition();
 
         // Restore scores
         scoreManager.setLeftScore(state.getScoreManager().getLeftScore());
         scoreManager.setRightScore(state.getScoreManager().getRightScore());
+
+        // Only the loop thread publishes; ask it to pick up the new state
+        snapshotStale = true;
     }
 
     /**
@@ -322,119 +429,196 @@ public class GamePanel extends JPanel {
         timer.start();
     }
 
+    /**
+     * Deliver the queued key events to paddles and shortcuts, on the loop
+     * thread
+     */
+    @Override
+    public void processInput(long untilNanos) {
+        // Key events are stamped with System.nanoTime(), the world's clock
+        long start = System.nanoTime();
+        keyboardHandler.dispatchQueuedInput(untilNanos);
+        // Counted in the INPUT phase of the next tick, with the controllers.
+        // While paused no tick follows, and carrying would pile the whole
+        // pause into the first sample after it.
+        if (gameLoopShouldUpdate()) {
+            metrics.carryToNextRecord(Phase.INPUT, System.nanoTime() - start);
+        }
+    }
+
     /**
      * Update game entities and check game logic
      */
+    @Override
     public void updateComponents() {
-        // Update entities with screen boundaries
-        leftPaddle.update();
-        rightPaddle.update();
-        ball.update();
-
-        // Check collisions
-        collisionDetector.checkCollision();
-
-        // Check scoring
-        if (ball.isOffLeft()) {
-            scoreManager.incrementRightScore();
-            ball.reset();
-            checkWinCondition();
-        } else if (ball.isOffRight()) {
-            scoreManager.incrementLeftScore();
-            ball.reset();
-            checkWinCondition();
-        }
+        world.tick();
+        checkWinCondition();
+
+        snapshots.publish(world, inputLatency.tickFinished(System.nanoTime()));
     }
 
     /**
      * Check if someone won
      */
     private void checkWinCondition() {
-        if (scoreManager.hasWinner()) {
+        if (world.hasWinner()) {
             currentState = GameState.GAME_OVER;
         }
     }
 
     /**
-     * Render the game entities
+     * Request a frame drawn between the last two ticks
+     *
+     * @param alpha Fraction of a tick elapsed since the last update (0..1)
      */
     @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
+    public void render(double alpha) {
+        if (snapshotStale) {
+            snapshotStale = false;
+            snapshots.publish(world);
+        }
+        renderAlpha = alpha;
+        if (activeCanvas != null) {
+            // Present right away from the loop thread
+            activeCanvas.render(framePainter);
+        } else if (framePending.compareAndSet(false, true)) {
+            // At most one frame queued on the EDT, like coalesced repaints
+            SwingUtilities.invokeLater(this::presentDirtyRegions);
+        }
+    }
 
-        // Don't draw anything until game is initialized
-        if (leftPaddle == null || rightPaddle == null || ball == null) {
+    /**
+     * Repaint only what changed since the last frame, on the EDT. Each dirty
+     * region is painted on its own: RepaintManager would merge repaint()
+     * requests into their bounding box, which spans the whole field as soon
+     * as both paddles move.
+     */
+    private void presentDirtyRegions() {
+        framePending.set(false);
+        long paintStart = System.nanoTime();
+        if (!prepareFrame()) {
             return;
         }
 
-        // Draw entities
-        leftPaddle.render(g);
-        rightPaddle.render(g);
-        ball.render(g);
-        fieldLine.render(g);
+        if (needsFullRepaint()) {
+            paintImmediately(0, 0, getWidth(), getHeight());
+        } else {
+            for (int i = 0; i < dirtyRegions.getCount(); i++) {
+                Rectangle region = dirtyRegions.get(i);
+                paintImmediately(region);
+            }
+        }
+        dirtyRegions.clear();
 
-        // Draw scores
-        scoreManager.render(g, getWidth(), getHeight());
+        // Sync for smooth rendering
+        Toolkit.getDefaultToolkit().sync();
+        finishFrame(paintStart);
+    }
 
-        // Draw game over screen
-        if (currentState == GameState.GAME_OVER) {
-            drawGameOver(g);
+    /**
+     * Draw a whole frame on the active canvas: its page-flipped buffers do
+     * not keep the previous frame, so every pixel is redrawn
+     */
+    private void presentFullFrame(Graphics g) {
+        long paintStart = System.nanoTime();
+        if (!prepareFrame()) {
+            return;
         }
+        dirtyRegions.clear();
+        drawFrame(g);
+        finishFrame(paintStart);
+    }
 
-        // Draw paused overlay
-        if (currentState == GameState.PAUSED) {
-            drawPausedOverlay(g);
+    /**
+     * Take the latest snapshot as the frame to draw and mark the areas it
+     * changes
+     *
+     * @return false if nothing was published yet
+     */
+    private boolean prepareFrame() {
+        // Never read the live world here: it belongs to the loop thread
+        RenderSnapshot snapshot = snapshots.acquire();
+        if (!snapshot.isCaptured()) {
+            return false;
         }
+        frameSnapshot = snapshot;
+        frameAlpha = renderAlpha;
+
+        markEntity(LEFT_PADDLE_SLOT, snapshot.getLeftPaddle());
+        markEntity(RIGHT_PADDLE_SLOT, snapshot.getRightPaddle());
+        markEntity(BALL_SLOT, snapshot.getBall());
+        if (snapshot.getLeftScore() != frameLeftScore || snapshot.getRightScore() != frameRightScore) {
+            frameLeftScore = snapshot.getLeftScore();
+            frameRightScore = snapshot.getRightScore();
+            dirtyRegions.add(0, 0, getWidth(), UIConstants.SCORE_AREA_HEIGHT);
+        }
+        return true;
+    }
 
-        // Sync for smooth rendering
-        Toolkit.getDefaultToolkit().sync();
+    private void markEntity(int slot, EntityState entity) {
+        dirtyRegions.mark(slot, entity.getInterpolatedX(frameAlpha), entity.getInterpolatedY(frameAlpha),
+                entity.getWidth(), entity.getHeight());
     }
 
     /**
-     * Draws the game over screen
+     * Overlays covering the whole panel, state changes, the multi-ball swarm
+     * and large changes are cheaper to repaint at once
      */
-    private void drawGameOver(Graphics g) {
-        drawSemiTransparentOverlay(g);
-
-        // Winner text
-        g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, (int) UIConstants.LARGE_TEXT_SIZE));
+    private boolean needsFullRepaint() {
+        GameState state = currentState;
+        boolean showsOverlay = performanceOverlay.isVisible();
+        boolean changed = state != frameState || showsOverlay != frameShowsOverlay;
+        frameState = state;
+        frameShowsOverlay = showsOverlay;
+
+        long panelArea = (long) getWidth() * getHeight();
+        return changed || showsOverlay || frameSnapshot.getSwarm().getCount() > 0
+                || dirtyRegions.getArea() > panelArea * UIConstants.DIRTY_REPAINT_MAX_COVERAGE;
+    }
 
-        String winnerText = "Player " + scoreManager.getWinner() + " Wins!";
-        int textWidth = g.getFontMetrics().stringWidth(winnerText);
-        g.drawString(winnerText, getWidth() / 2 - textWidth / 2, getHeight() / 2);
+    /**
+     * Record paint time and latency of the frame just presented
+     */
+    private void finishFrame(long paintStart) {
+        long paintEnd = System.nanoTime();
+        metrics.record(Phase.PAINT, paintEnd - paintStart);
+        metrics.recordFrame();
 
-        // Instructions
-        g.setFont(new Font("Arial", Font.PLAIN, (int) UIConstants.MEDIUM_TEXT_SIZE));
-        String instructions = "Press ESC to exit";
-        textWidth = g.getFontMetrics().stringWidth(instructions);
-        g.drawString(instructions, getWidth() / 2 - textWidth / 2,
-                getHeight() / 2 + UIConstants.GAME_OVER_INSTRUCTION_OFFSET);
+        inputLatency.framePresented(frameSnapshot.getInputNanos(), paintEnd);
     }
 
     /**
-     * Draws the paused overlay
+     * Render the game entities. Swing clips to the area being repainted, so
+     * this also serves each dirty region.
      */
-    private void drawPausedOverlay(Graphics g) {
-        drawSemiTransparentOverlay(g);
+    @Override
+    protected void paintComponent(Graphics g) {
+        // Don't draw anything until the first frame is prepared; the active
+        // canvas draws its own frames
+        if (frameSnapshot == null || activeCanvas != null) {
+            super.paintComponent(g);
+            return;
+        }
+
+        drawFrame(g);
+    }
 
-        // "PAUSED" text
-        g.setFont(FontUtils.getDefaultFont(Font.BOLD, UIConstants.PAUSED_TEXT_SIZE));
+    /**
+     * Draws the prepared frame and the performance overlay
+     */
+    private void drawFrame(Graphics g) {
+        frameRenderer.draw(g, frameSnapshot, frameAlpha, currentState, getWidth(), getHeight());
 
-        g.setColor(UIConstants.TEXT_COLOR);
-        String text = "PAUSED";
-        int textWidth = g.getFontMetrics().stringWidth(text);
-        int x = (getWidth() - textWidth) / 2;
-        int y = getHeight() / 2;
-        g.drawString(text, x, y);
+        // Draw performance overlay
+        performanceOverlay.render(g);
     }
 
     /**
-     * Draws a semi-transparent overlay covering the entire panel
+     * Stop the loop and leave the application from the event dispatch thread
      */
-    private void drawSemiTransparentOverlay(Graphics g) {
-        g.setColor(UIConstants.OVERLAY_COLOR);
-        g.fillRect(0, 0, getWidth(), getHeight());
+    private void requestExit() {
+        stop();
+        SwingUtilities.invokeLater(() -> System.exit(0));
     }
 
     /**
@@ -445,10 +629,12 @@ public class GamePanel extends JPanel {
         // Thread will stop automatically when isGameLoopActive() returns false
     }
 
+    @Override
     public boolean isGameLoopActive() {
         return currentState.isGameLoopActive();
     }
 
+    @Override
     public boolean gameLoopShouldUpdate() {
         return currentState == GameState.PLAYING;
     }
@@ -8,11 +8,11 @@ import java.awt.Insets;
 
 import javax.swing.JButton;
 import javax.swing.JLabel;
-import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.SwingConstants;
 
 import br.com.vinidiefen.pong.application.services.GameStateService;
+import br.com.vinidiefen.pong.constants.GameMode;
 import br.com.vinidiefen.pong.constants.UIConstants;
 import br.com.vinidiefen.pong.infrastructure.ui.GameFrame;
 import br.com.vinidiefen.pong.infrastructure.ui.factories.ButtonFactory;
@@ -36,7 +36,7 @@ public class MenuPanel extends JPanel {
         
         // Setup keyboard handling
         this.keyboardHandler = new KeyboardHandler();
-        this.shortcuts = new GameShortcuts();
+        this.shortcuts = new GameShortcuts(this::exitGame);
         keyboardHandler.addInputObserver(shortcuts);
         
         setBackground(UIConstants.BACKGROUND_COLOR);
@@ -78,16 +78,28 @@ public class MenuPanel extends JPanel {
         gbc.gridy = 0;
         buttonPanel.add(playButton, gbc);
 
+        // Single player button
+        JButton singlePlayerButton = ButtonFactory.createMenuButton(UIConstants.BTN_UM_JOGADOR);
+        singlePlayerButton.addActionListener(e -> startSinglePlayerGame());
+        gbc.gridy = 1;
+        buttonPanel.add(singlePlayerButton, gbc);
+
+        // Multi-ball button
+        JButton multiBallButton = ButtonFactory.createMenuButton(UIConstants.BTN_MULTIBOLA);
+        multiBallButton.addActionListener(e -> startMultiBallGame());
+        gbc.gridy = 2;
+        buttonPanel.add(multiBallButton, gbc);
+
         // Load game button
         JButton loadButton = ButtonFactory.createMenuButton(UIConstants.BTN_CARREGAR);
         loadButton.addActionListener(e -> loadGame());
-        gbc.gridy = 1;
+        gbc.gridy = 3;
         buttonPanel.add(loadButton, gbc);
 
         // Exit button
         JButton exitButton = ButtonFactory.createMenuButton(UIConstants.BTN_SAIR);
         exitButton.addActionListener(e -> exitGame());
-        gbc.gridy = 2;
+        gbc.gridy = 4;
         buttonPanel.add(exitButton, gbc);
 
         add(titlePanel, BorderLayout.NORTH);
@@ -101,26 +113,29 @@ public class MenuPanel extends JPanel {
         gameFrame.startGame();
     }
 
+    /**
+     * Starts a game against the computer
+     */
+    private void startSinglePlayerGame() {
+        gameFrame.startGame(GameMode.SINGLE_PLAYER);
+    }
+
+    /**
+     * Starts the multi-ball stress mode
+     */
+    private void startMultiBallGame() {
+        gameFrame.startGame(GameMode.MULTI_BALL);
+    }
+
     /**
      * Loads a saved game
      */
     private void loadGame() {
-        try {
-            var matches = gameStateService.getAllMatches();
-
-            // Show dialog to select a save
-            SaveGameDialog.show(this, matches, gameStateService, (var id) -> {
-                gameFrame.setMatchId(id);
-                gameFrame.startGame();
-            });
-
-        } catch (Exception e) {
-            e.printStackTrace();
-            JOptionPane.showMessageDialog(this,
-                    "Erro ao carregar jogos salvos: " + e.getMessage(),
-                    "Erro",
-                    JOptionPane.ERROR_MESSAGE);
-        }
+        // Show dialog to select a save; it loads the list in the background
+        SaveGameDialog.show(this, gameStateService, (var id) -> {
+            gameFrame.setMatchId(id);
+            gameFrame.startGame();
+        });
     }
 
     /**
@@ -3,8 +3,10 @@ package br.com.vinidiefen.pong.infrastructure.ui.panels;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Component;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 
 import javax.swing.BorderFactory;
@@ -15,14 +17,16 @@ import javax.swing.JLabel;
 import javax.swing.JList;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JScrollBar;
 import javax.swing.JScrollPane;
 import javax.swing.ListSelectionModel;
 import javax.swing.SwingConstants;
+import javax.swing.SwingWorker;
 import javax.swing.border.LineBorder;
 
 import br.com.vinidiefen.pong.application.services.GameStateService;
+import br.com.vinidiefen.pong.application.services.GameStateService.MatchSummary;
 import br.com.vinidiefen.pong.constants.UIConstants;
-import br.com.vinidiefen.pong.infrastructure.persistence.models.MatchModel;
 import br.com.vinidiefen.pong.infrastructure.ui.factories.ButtonFactory;
 import br.com.vinidiefen.pong.infrastructure.ui.utils.FontUtils;
 
@@ -35,26 +39,24 @@ public class SaveGameDialog {
     }
 
     /**
-     * Shows dialog and calls callback with selected match ID
+     * Shows dialog and calls callback with selected match ID. The dialog
+     * opens at once; saved matches are fetched in the background, one page
+     * at a time as the list is scrolled, so the EDT never waits on the
+     * database and only the rows shown are loaded.
      * 
      * @param parent           Parent component for positioning
-     * @param matches          List of available matches
-     * @param gameStateService Service to get score information
+     * @param gameStateService Service to list the saved matches
      * @param onLoadCallback   Callback to execute with selected match ID
      */
-    public static void show(Component parent, List<MatchModel> matches,
-            GameStateService gameStateService, Consumer<UUID> onLoadCallback) {
-        if (matches.isEmpty()) {
-            JOptionPane.showMessageDialog(parent,
-                    "Nenhum jogo salvo encontrado!",
-                    "Carregar Jogo",
-                    JOptionPane.INFORMATION_MESSAGE);
-            return;
-        }
-
+    public static void show(Component parent, GameStateService gameStateService, Consumer<UUID> onLoadCallback) {
         JDialog dialog = createDialog(parent);
-        JList<String> saveList = createSaveList(matches, gameStateService);
-        setupDialog(dialog, saveList, matches, onLoadCallback);
+        DefaultListModel<String> listModel = new DefaultListModel<>();
+        listModel.addElement("Carregando...");
+        List<UUID> matchIds = new ArrayList<>();
+        JList<String> saveList = createSaveList(listModel);
+        SummaryLoader loader = new SummaryLoader(parent, dialog, listModel, matchIds, gameStateService);
+        setupDialog(dialog, saveList, matchIds, loader::loadNextPage, onLoadCallback);
+        loader.loadNextPage();
         dialog.setVisible(true);
     }
 
@@ -69,15 +71,7 @@ public class SaveGameDialog {
         return dialog;
     }
 
-    private static JList<String> createSaveList(List<MatchModel> matches, GameStateService gameStateService) {
-        DefaultListModel<String> listModel = new DefaultListModel<>();
-
-        for (int i = 0; i < matches.size(); i++) {
-            MatchModel match = matches.get(i);
-            String saveInfo = formatSaveInfo(i + 1, match, gameStateService);
-            listModel.addElement(saveInfo);
-        }
-
+    private static JList<String> createSaveList(DefaultListModel<String> listModel) {
         JList<String> saveList = new JList<>(listModel);
         saveList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         saveList.setBackground(UIConstants.LIST_BACKGROUND);
@@ -87,21 +81,17 @@ public class SaveGameDialog {
         return saveList;
     }
 
-    private static String formatSaveInfo(int index, MatchModel match, GameStateService gameStateService) {
-        try {
-            var scoreManager = gameStateService.getScoreForMatch(match.getScoreManagerId());
-            if (scoreManager != null) {
-                return String.format("Save #%d - Placar: %d x %d",
-                        index, scoreManager.getLeftScore(), scoreManager.getRightScore());
-            }
-        } catch (Exception e) {
-            // If fails, just show basic info
+    private static String formatSaveInfo(int index, MatchSummary summary) {
+        var scoreManager = summary.getScoreManager();
+        if (scoreManager != null) {
+            return String.format("Save #%d - Placar: %d x %d",
+                    index, scoreManager.getLeftScore(), scoreManager.getRightScore());
         }
         return String.format("Save #%d", index);
     }
 
     private static void setupDialog(JDialog dialog, JList<String> saveList,
-            List<MatchModel> matches, Consumer<UUID> onLoadCallback) {
+            List<UUID> matchIds, Runnable onScrolledToEnd, Consumer<UUID> onLoadCallback) {
         // Title
         JLabel titleLabel = new JLabel("Jogos Salvos");
         titleLabel.setForeground(UIConstants.TEXT_COLOR);
@@ -112,6 +102,12 @@ public class SaveGameDialog {
         // Scroll pane
         JScrollPane scrollPane = new JScrollPane(saveList);
         scrollPane.setBorder(new LineBorder(Color.WHITE, 1));
+        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> {
+            JScrollBar bar = (JScrollBar) e.getAdjustable();
+            if (bar.getValue() + bar.getVisibleAmount() >= bar.getMaximum() - UIConstants.SAVE_LIST_PREFETCH_DISTANCE) {
+                onScrolledToEnd.run();
+            }
+        });
 
         // Button panel
         JPanel buttonPanel = new JPanel();
@@ -122,8 +118,9 @@ public class SaveGameDialog {
 
         loadButton.addActionListener(e -> {
             int selectedIndex = saveList.getSelectedIndex();
-            if (selectedIndex >= 0) {
-                UUID selectedMatchId = matches.get(selectedIndex).getId();
+            // Nothing is selectable until the matches have been loaded
+            if (selectedIndex >= 0 && selectedIndex < matchIds.size()) {
+                UUID selectedMatchId = matchIds.get(selectedIndex);
                 dialog.dispose();
                 onLoadCallback.accept(selectedMatchId);
             } else {
@@ -144,4 +141,95 @@ public class SaveGameDialog {
         dialog.add(scrollPane, BorderLayout.CENTER);
         dialog.add(buttonPanel, BorderLayout.SOUTH);
     }
+
+    /**
+     * Fetches pages of saved matches in the background and appends them to
+     * the list. Runs on the EDT; at most one page is in flight.
+     */
+    private static class SummaryLoader {
+        private final Component parent;
+        private final JDialog dialog;
+        private final DefaultListModel<String> listModel;
+        private final List<UUID> matchIds;
+        private final GameStateService gameStateService;
+
+        private MatchSummary lastSummary;
+        private boolean loading;
+        private boolean exhausted;
+
+        SummaryLoader(Component parent, JDialog dialog, DefaultListModel<String> listModel,
+                List<UUID> matchIds, GameStateService gameStateService) {
+            this.parent = parent;
+            this.dialog = dialog;
+            this.listModel = listModel;
+            this.matchIds = matchIds;
+            this.gameStateService = gameStateService;
+        }
+
+        void loadNextPage() {
+            if (loading || exhausted) {
+                return;
+            }
+            loading = true;
+            MatchSummary after = lastSummary;
+
+            new SwingWorker<List<MatchSummary>, Void>() {
+                @Override
+                protected List<MatchSummary> doInBackground() {
+                    return gameStateService.getMatchSummaries(after, UIConstants.SAVE_LIST_PAGE_SIZE);
+                }
+
+                @Override
+                protected void done() {
+                    loading = false;
+                    // Dialog was closed before the page arrived
+                    if (!dialog.isDisplayable()) {
+                        return;
+                    }
+                    try {
+                        appendPage(get());
+                    } catch (InterruptedException | ExecutionException e) {
+                        e.printStackTrace();
+                        exhausted = true;
+                        Throwable cause = e.getCause() != null ? e.getCause() : e;
+                        if (matchIds.isEmpty()) {
+                            dialog.dispose();
+                        }
+                        JOptionPane.showMessageDialog(matchIds.isEmpty() ? parent : dialog,
+                                "Erro ao carregar jogos salvos: " + cause.getMessage(),
+                                "Erro",
+                                JOptionPane.ERROR_MESSAGE);
+                    }
+                }
+            }.execute();
+        }
+
+        private void appendPage(List<MatchSummary> summaries) {
+            exhausted = summaries.size() < UIConstants.SAVE_LIST_PAGE_SIZE;
+
+            if (matchIds.isEmpty()) {
+                if (summaries.isEmpty()) {
+                    dialog.dispose();
+                    JOptionPane.showMessageDialog(parent,
+                            "Nenhum jogo salvo encontrado!",
+                            "Carregar Jogo",
+                            JOptionPane.INFORMATION_MESSAGE);
+                    return;
+                }
+                // Remove the loading row
+                listModel.clear();
+            }
+
+            List<String> rows = new ArrayList<>(summaries.size());
+            for (MatchSummary summary : summaries) {
+                matchIds.add(summary.getMatchId());
+                rows.add(formatSaveInfo(matchIds.size(), summary));
+            }
+            // One model event for the whole page instead of one per row
+            listModel.addAll(rows);
+            if (!summaries.isEmpty()) {
+                lastSummary = summaries.get(summaries.size() - 1);
+            }
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package br.com.vinidiefen.pong.infrastructure.ui.rendering;
+
+import java.awt.AWTException;
+import java.awt.BufferCapabilities;
+import java.awt.Canvas;
+import java.awt.Graphics;
+import java.awt.ImageCapabilities;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.function.Consumer;
+
+import br.com.vinidiefen.pong.constants.UIConstants;
+
+/**
+ * Heavyweight canvas presented directly by the game loop thread through a
+ * page-flipped {@link BufferStrategy}, bypassing the EDT repaint queue.
+ * Lightweight Swing components added to the same parent before this canvas
+ * stay on top of it.
+ */
+public class ActiveRenderCanvas extends Canvas {
+
+    private static final int BUFFER_COUNT = 2;
+
+    // Cleared before the peer goes away so the loop stops presenting
+    private volatile boolean presentable;
+
+    public ActiveRenderCanvas() {
+        setBackground(UIConstants.BACKGROUND_COLOR);
+        // Presentation is driven by the loop, not by AWT paint events
+        setIgnoreRepaint(true);
+        // Keyboard focus stays on the parent panel
+        setFocusable(false);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        createStrategy();
+        presentable = true;
+    }
+
+    @Override
+    public void removeNotify() {
+        presentable = false;
+        super.removeNotify();
+    }
+
+    /**
+     * Prefer hardware page flipping, fall back to the default strategy
+     */
+    private void createStrategy() {
+        BufferCapabilities flipping = new BufferCapabilities(new ImageCapabilities(true),
+                new ImageCapabilities(true), BufferCapabilities.FlipContents.UNDEFINED);
+        try {
+            createBufferStrategy(BUFFER_COUNT, flipping);
+        } catch (AWTException e) {
+            createBufferStrategy(BUFFER_COUNT);
+        }
+    }
+
+    /**
+     * Draw and present one frame, redrawing while the back buffer is lost or
+     * restored. Called from the game loop thread.
+     *
+     * @param painter Draws the whole frame, covering every pixel
+     */
+    public void render(Consumer<Graphics> painter) {
+        if (!presentable || getWidth() <= 0 || getHeight() <= 0) {
+            return;
+        }
+
+        try {
+            BufferStrategy strategy = getBufferStrategy();
+            if (strategy == null) {
+                return;
+            }
+            do {
+                do {
+                    Graphics g = strategy.getDrawGraphics();
+                    try {
+                        painter.accept(g);
+                    } finally {
+                        g.dispose();
+                    }
+                } while (strategy.contentsRestored());
+                strategy.show();
+            } while (strategy.contentsLost());
+
+            Toolkit.getDefaultToolkit().sync();
+        } catch (IllegalStateException e) {
+            // Peer disposed while presenting (canvas removed): drop the frame
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package br.com.vinidiefen.pong.infrastructure.ui.rendering;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import br.com.vinidiefen.pong.constants.UIConstants;
+import br.com.vinidiefen.pong.domain.entities.FieldLine;
+
+/**
+ * The static part of a frame (background and field line) pre-rendered into
+ * an image that is only redrawn when the size changes. Each frame starts by
+ * blitting it, which also clears the previous frame. Used from the painting
+ * thread only.
+ */
+public class ArenaLayer {
+
+    private final FieldLine fieldLine;
+    private BufferedImage image;
+
+    public ArenaLayer(FieldLine fieldLine) {
+        this.fieldLine = fieldLine;
+    }
+
+    /**
+     * Draw the layer over the whole area, rebuilding it first if the size
+     * changed
+     */
+    public void render(Graphics g, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            rebuild(width, height);
+        }
+        g.drawImage(image, 0, 0, null);
+    }
+
+    private void rebuild(int width, int height) {
+        if (image != null) {
+            image.flush();
+        }
+        image = createImage(width, height);
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(UIConstants.BACKGROUND_COLOR);
+            g.fillRect(0, 0, width, height);
+            fieldLine.render(g);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * An opaque image in the screen's pixel format, so blitting it needs no
+     * conversion and Java2D can keep a copy in video memory
+     */
+    private static BufferedImage createImage(int width, int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+        GraphicsConfiguration configuration = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+        return configuration.createCompatibleImage(width, height, Transparency.OPAQUE);
+    }
+
+}
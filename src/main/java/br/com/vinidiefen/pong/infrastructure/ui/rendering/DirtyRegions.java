@@ -0,0 +1,107 @@
+package br.com.vinidiefen.pong.infrastructure.ui.rendering;
+
+import java.awt.Rectangle;
+
+/**
+ * Areas of the screen that changed since the last frame, so only those are
+ * repainted. Each tracked item (paddle, ball...) has a slot remembering where
+ * it was last drawn: moving it dirties both its old and its new area.
+ * Overlapping areas are merged, and rectangles are reused so tracking does
+ * not allocate. Used from the painting thread only.
+ */
+public class DirtyRegions {
+
+    private final Rectangle[] drawn;
+    private final Rectangle[] dirty;
+    private int dirtyCount;
+    private final Rectangle pending = new Rectangle();
+
+    /**
+     * @param slots         Number of tracked items
+     * @param extraCapacity Additional areas that may be added per frame
+     */
+    public DirtyRegions(int slots, int extraCapacity) {
+        drawn = new Rectangle[slots];
+        for (int i = 0; i < slots; i++) {
+            drawn[i] = new Rectangle();
+        }
+        // Each slot dirties at most its old and its new area
+        dirty = new Rectangle[2 * slots + extraCapacity];
+        for (int i = 0; i < dirty.length; i++) {
+            dirty[i] = new Rectangle();
+        }
+    }
+
+    /**
+     * Record where a tracked item is drawn this frame
+     */
+    public void mark(int slot, int x, int y, int width, int height) {
+        Rectangle last = drawn[slot];
+        if (last.x == x && last.y == y && last.width == width && last.height == height) {
+            return;
+        }
+        add(last.x, last.y, last.width, last.height);
+        add(x, y, width, height);
+        last.setBounds(x, y, width, height);
+    }
+
+    /**
+     * Mark an arbitrary area as changed
+     */
+    public void add(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        pending.setBounds(x, y, width, height);
+
+        // Absorb every area the new one overlaps, until none is left
+        int i = 0;
+        while (i < dirtyCount) {
+            if (dirty[i].intersects(pending)) {
+                pending.add(dirty[i]);
+                removeAt(i);
+                i = 0;
+            } else {
+                i++;
+            }
+        }
+        if (dirtyCount == dirty.length) {
+            throw new IllegalStateException("Too many dirty regions in one frame");
+        }
+        dirty[dirtyCount++].setBounds(pending);
+    }
+
+    private void removeAt(int index) {
+        dirtyCount--;
+        Rectangle removed = dirty[index];
+        dirty[index] = dirty[dirtyCount];
+        dirty[dirtyCount] = removed;
+    }
+
+    public int getCount() {
+        return dirtyCount;
+    }
+
+    public Rectangle get(int index) {
+        return dirty[index];
+    }
+
+    /**
+     * Total dirty area in pixels
+     */
+    public long getArea() {
+        long area = 0;
+        for (int i = 0; i < dirtyCount; i++) {
+            area += (long) dirty[i].width * dirty[i].height;
+        }
+        return area;
+    }
+
+    /**
+     * Forget the dirty areas once they were repainted
+     */
+    public void clear() {
+        dirtyCount = 0;
+    }
+
+}
@@ -0,0 +1,141 @@
+package br.com.vinidiefen.pong.infrastructure.ui.rendering;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+
+import br.com.vinidiefen.pong.constants.GameState;
+import br.com.vinidiefen.pong.constants.UIConstants;
+import br.com.vinidiefen.pong.core.engine.Arena;
+import br.com.vinidiefen.pong.core.engine.EntityState;
+import br.com.vinidiefen.pong.core.engine.RenderSnapshot;
+import br.com.vinidiefen.pong.core.engine.SwarmState;
+import br.com.vinidiefen.pong.domain.entities.FieldLine;
+import br.com.vinidiefen.pong.domain.managers.ScoreManager;
+import br.com.vinidiefen.pong.infrastructure.ui.utils.FontUtils;
+
+/**
+ * Draws a match frame from a {@link RenderSnapshot}: arena, entities, scores
+ * and the paused and game over overlays. Works on any Graphics, on screen or
+ * an offscreen image. Used from one painting thread only.
+ */
+public class FrameRenderer {
+
+    // Static background and field line, pre-rendered
+    private final ArenaLayer arenaLayer;
+    private final ScoreManager scoreManager;
+
+    // Overlay texts, created on first use
+    private OverlayText pausedText;
+    private OverlayText exitText;
+    private final OverlayText[] winnerTexts = new OverlayText[2];
+
+    /**
+     * @param arena        Arena the field line is centered on
+     * @param scoreManager Draws the scores with its font
+     */
+    public FrameRenderer(Arena arena, ScoreManager scoreManager) {
+        FieldLine fieldLine = new FieldLine();
+        fieldLine.setArena(arena);
+        this.arenaLayer = new ArenaLayer(fieldLine);
+        this.scoreManager = scoreManager;
+    }
+
+    /**
+     * Draw a whole frame, clipped to the Graphics clip if any
+     *
+     * @param alpha Fraction of a tick elapsed since the snapshot's tick (0..1)
+     */
+    public void draw(Graphics g, RenderSnapshot snapshot, double alpha, GameState state, int width, int height) {
+        // Background and field line; also clears the previous frame
+        arenaLayer.render(g, width, height);
+
+        // Draw entities
+        drawEntity(g, snapshot.getLeftPaddle(), alpha);
+        drawEntity(g, snapshot.getRightPaddle(), alpha);
+        drawEntity(g, snapshot.getBall(), alpha);
+        drawSwarm(g, snapshot.getSwarm(), alpha);
+
+        // Draw scores
+        scoreManager.render(g, width, snapshot.getLeftScore(), snapshot.getRightScore());
+
+        // Draw game over screen
+        if (state == GameState.GAME_OVER) {
+            drawGameOver(g, snapshot.getWinner(), width, height);
+        }
+
+        // Draw paused overlay
+        if (state == GameState.PAUSED) {
+            drawPausedOverlay(g, width, height);
+        }
+    }
+
+    /**
+     * Draws a paddle or the ball between the last two ticks
+     */
+    private void drawEntity(Graphics g, EntityState entity, double alpha) {
+        g.setColor(Color.WHITE);
+        g.fillRect(entity.getInterpolatedX(alpha), entity.getInterpolatedY(alpha), entity.getWidth(),
+                entity.getHeight());
+    }
+
+    /**
+     * Draws the extra balls of the multi-ball mode
+     */
+    private void drawSwarm(Graphics g, SwarmState swarm, double alpha) {
+        g.setColor(Color.WHITE);
+        for (int i = 0; i < swarm.getCount(); i++) {
+            int size = swarm.getSize(i);
+            g.fillRect(swarm.getInterpolatedX(i, alpha), swarm.getInterpolatedY(i, alpha), size, size);
+        }
+    }
+
+    /**
+     * Draws the game over screen
+     */
+    private void drawGameOver(Graphics g, int winner, int width, int height) {
+        drawSemiTransparentOverlay(g, width, height);
+
+        // The frame may predate the winning tick
+        if (winner == 0) {
+            return;
+        }
+
+        // Winner text
+        if (winnerTexts[winner - 1] == null) {
+            winnerTexts[winner - 1] = new OverlayText("Player " + winner + " Wins!",
+                    new Font("Arial", Font.BOLD, (int) UIConstants.LARGE_TEXT_SIZE), Color.WHITE);
+        }
+        winnerTexts[winner - 1].drawCentered(g, width / 2, height / 2);
+
+        // Instructions
+        if (exitText == null) {
+            exitText = new OverlayText("Press ESC to exit",
+                    new Font("Arial", Font.PLAIN, (int) UIConstants.MEDIUM_TEXT_SIZE), Color.WHITE);
+        }
+        exitText.drawCentered(g, width / 2, height / 2 + UIConstants.GAME_OVER_INSTRUCTION_OFFSET);
+    }
+
+    /**
+     * Draws the paused overlay
+     */
+    private void drawPausedOverlay(Graphics g, int width, int height) {
+        drawSemiTransparentOverlay(g, width, height);
+
+        // "PAUSED" text
+        if (pausedText == null) {
+            pausedText = new OverlayText("PAUSED", FontUtils.getDefaultFont(Font.BOLD, UIConstants.PAUSED_TEXT_SIZE),
+                    UIConstants.TEXT_COLOR);
+        }
+        pausedText.drawCentered(g, width / 2, height / 2);
+    }
+
+    /**
+     * Draws a semi-transparent overlay covering the entire frame
+     */
+    private void drawSemiTransparentOverlay(Graphics g, int width, int height) {
+        g.setColor(UIConstants.OVERLAY_COLOR);
+        g.fillRect(0, 0, width, height);
+    }
+
+}
@@ -0,0 +1,110 @@
+package br.com.vinidiefen.pong.infrastructure.ui.rendering;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import javax.imageio.ImageIO;
+
+import br.com.vinidiefen.pong.Main;
+import br.com.vinidiefen.pong.constants.GameState;
+import br.com.vinidiefen.pong.core.engine.GameWorld;
+import br.com.vinidiefen.pong.core.engine.ManualClock;
+import br.com.vinidiefen.pong.core.engine.SnapshotBuffer;
+import br.com.vinidiefen.pong.core.simulation.AiDifficulty;
+import br.com.vinidiefen.pong.core.simulation.PaddleControllers;
+
+/**
+ * Draws a match into an offscreen image with the same code as the game
+ * panel, so rendering can be measured and compared without a display (e.g.
+ * with -Djava.awt.headless=true on CI). Frames are drawn at the end of a
+ * tick, with no interpolation.
+ */
+public class OffscreenRenderer {
+
+    private final GameWorld world;
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+    private final FrameRenderer frameRenderer;
+    private final BufferedImage image;
+    private final Graphics2D graphics;
+
+    /**
+     * @param world Match to draw; the image has the size of its arena
+     */
+    public OffscreenRenderer(GameWorld world) {
+        this.world = world;
+        this.frameRenderer = new FrameRenderer(world.getArena(), world.getScoreManager());
+        this.image = new BufferedImage(world.getArena().getWidth(), world.getArena().getHeight(),
+                BufferedImage.TYPE_INT_RGB);
+        this.graphics = image.createGraphics();
+    }
+
+    /**
+     * Draw the current state of the world, with the game over screen once
+     * someone won
+     */
+    public BufferedImage render() {
+        return render(world.hasWinner() ? GameState.GAME_OVER : GameState.PLAYING);
+    }
+
+    /**
+     * Draw the current state of the world with the overlays of the given
+     * state
+     */
+    public BufferedImage render(GameState state) {
+        snapshots.publish(world);
+        frameRenderer.draw(graphics, snapshots.acquire(), 1.0, state, image.getWidth(), image.getHeight());
+        return image;
+    }
+
+    /**
+     * Write the last drawn frame as a PNG file
+     */
+    public void writePng(Path file) throws IOException {
+        ImageIO.write(image, "png", file.toFile());
+    }
+
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    public void dispose() {
+        graphics.dispose();
+    }
+
+    /**
+     * Dump a seeded computer-vs-computer match as a PNG sequence, e.g. to
+     * compare frames before and after a rendering change:
+     * [width] [height] [frames] [directory] [seed]
+     */
+    public static void main(String[] args) throws IOException {
+        int width = args.length > 0 ? Integer.parseInt(args[0]) : 1280;
+        int height = args.length > 1 ? Integer.parseInt(args[1]) : 720;
+        int frames = args.length > 2 ? Integer.parseInt(args[2]) : 120;
+        Path directory = Paths.get(args.length > 3 ? args[3] : "frames");
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42L;
+
+        // Same score font as the game
+        Main.configureDefaultFont();
+        Files.createDirectories(directory);
+
+        GameWorld world = new GameWorld(width, height, new ManualClock(), seed);
+        world.setControllers(PaddleControllers.predictive(AiDifficulty.MEDIUM, seed),
+                PaddleControllers.predictive(AiDifficulty.MEDIUM, seed + 1));
+        OffscreenRenderer renderer = new OffscreenRenderer(world);
+        try {
+            for (int frame = 0; frame < frames && !world.hasWinner(); frame++) {
+                world.tick();
+                renderer.render();
+                renderer.writePng(directory.resolve(String.format("frame-%05d.png", frame)));
+            }
+        } finally {
+            renderer.dispose();
+        }
+        System.out.println("Frames written to " + directory.toAbsolutePath());
+    }
+
+}
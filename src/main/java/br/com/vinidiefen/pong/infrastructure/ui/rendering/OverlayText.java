@@ -0,0 +1,37 @@
+package br.com.vinidiefen.pong.infrastructure.ui.rendering;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+
+/**
+ * A fixed line of overlay text with its font and width resolved once, so
+ * drawing it every frame does no font creation or text measuring. Glyph
+ * rasterization is left to Java2D, which caches glyph images per font.
+ */
+public class OverlayText {
+
+    private final String text;
+    private final Font font;
+    private final Color color;
+    private int width = -1;
+
+    public OverlayText(String text, Font font, Color color) {
+        this.text = text;
+        this.font = font;
+        this.color = color;
+    }
+
+    /**
+     * Draw the text horizontally centered on the given point
+     */
+    public void drawCentered(Graphics g, int centerX, int baseline) {
+        g.setFont(font);
+        g.setColor(color);
+        if (width < 0) {
+            width = g.getFontMetrics().stringWidth(text);
+        }
+        g.drawString(text, centerX - width / 2, baseline);
+    }
+
+}
@@ -1,13 +1,22 @@
 package br.com.vinidiefen.pong.infrastructure.ui.utils;
 
 import java.awt.Font;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import javax.swing.UIManager;
 
 /**
  * Utility class for font operations
  */
 public final class FontUtils {
-    
+
+    private static final Font FALLBACK_FONT = new Font("Arial", Font.PLAIN, 12);
+
+    // Derived fonts by style and size, for the base font they were derived from
+    private static final Map<Long, Font> derivedFonts = new ConcurrentHashMap<>();
+    private static volatile Font derivedBase;
+
     private FontUtils() {
         throw new AssertionError("Cannot instantiate utility class");
     }
@@ -19,7 +28,7 @@ public final class FontUtils {
      */
     public static Font getDefaultFont() {
         Font font = (Font) UIManager.get("Label.font");
-        return font != null ? font : new Font("Arial", Font.PLAIN, 12);
+        return font != null ? font : FALLBACK_FONT;
     }
     
     /**
@@ -29,17 +38,24 @@ public final class FontUtils {
      * @return The default font with the specified size
      */
     public static Font getDefaultFont(float size) {
-        return getDefaultFont().deriveFont(size);
+        return getDefaultFont(getDefaultFont().getStyle(), size);
     }
     
     /**
-     * Gets the default font with a specific style and size
+     * Gets the default font with a specific style and size. Derived fonts
+     * are cached until the default font changes.
      * 
      * @param style The font style (e.g., Font.BOLD)
      * @param size The font size
      * @return The default font with the specified style and size
      */
     public static Font getDefaultFont(int style, float size) {
-        return getDefaultFont().deriveFont(style, size);
+        Font base = getDefaultFont();
+        if (base != derivedBase) {
+            derivedFonts.clear();
+            derivedBase = base;
+        }
+        long key = ((long) style << Integer.SIZE) | (Float.floatToIntBits(size) & 0xFFFFFFFFL);
+        return derivedFonts.computeIfAbsent(key, k -> base.deriveFont(style, size));
     }
 }
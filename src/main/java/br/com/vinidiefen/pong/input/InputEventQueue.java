@@ -0,0 +1,185 @@
+package br.com.vinidiefen.pong.input;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free single-producer/single-consumer ring buffer of timestamped key
+ * events. The producer (the event dispatch thread) offers events as they
+ * arrive; the consumer (the game loop) drains them at its tick boundary, so
+ * input state is only ever touched by the loop thread.
+ *
+ * Events are stored in primitive arrays and published with release/acquire
+ * ordering on the head and tail counters, so neither side locks or allocates.
+ *
+ * If the consumer falls behind and the ring fills up, events are not lost:
+ * the latest state of each key is kept in a small overflow table (under a
+ * lock, but only while overflowing) and delivered after the ring. A
+ * press and release that both overflow collapse into the release, so a key
+ * is never left held.
+ */
+public class InputEventQueue {
+
+    private final int[] keyCodes;
+    private final boolean[] pressed;
+    private final long[] timestamps;
+    private final int mask;
+
+    // Next slot to read (written by the consumer only)
+    private final AtomicLong head = new AtomicLong();
+    // Next slot to write (written by the producer only)
+    private final AtomicLong tail = new AtomicLong();
+
+    // Latest state per key while the ring is full, in order of last change
+    private final Map<Integer, PendingKey> overflow = new LinkedHashMap<>();
+    private volatile boolean overflowing;
+
+    private final AtomicLong overflowedEvents = new AtomicLong();
+
+    /**
+     * @param capacity Maximum pending events, a power of two
+     */
+    public InputEventQueue(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        keyCodes = new int[capacity];
+        pressed = new boolean[capacity];
+        timestamps = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Enqueue an event (producer thread only)
+     *
+     * @return false if the ring was full and the event went to the overflow
+     *         table
+     */
+    public boolean offer(int keyCode, boolean isPressed, long timestampNanos) {
+        // Once overflowing, later events must follow the overflowed ones
+        if (overflowing && offerOverflow(keyCode, isPressed, timestampNanos, false)) {
+            return false;
+        }
+        long t = tail.getPlain();
+        if (t - head.getAcquire() > mask) {
+            offerOverflow(keyCode, isPressed, timestampNanos, true);
+            return false;
+        }
+        int slot = (int) t & mask;
+        keyCodes[slot] = keyCode;
+        pressed[slot] = isPressed;
+        timestamps[slot] = timestampNanos;
+        tail.setRelease(t + 1);
+        return true;
+    }
+
+    /**
+     * Record the latest state of a key in the overflow table
+     *
+     * @param start Whether to start overflowing, or only add to an overflow
+     *              still in progress
+     * @return false if the consumer emptied the table in the meantime
+     */
+    private boolean offerOverflow(int keyCode, boolean isPressed, long timestampNanos, boolean start) {
+        synchronized (overflow) {
+            if (!start && !overflowing) {
+                return false;
+            }
+            // Re-insert so the table stays in order of last change
+            overflow.remove(keyCode);
+            overflow.put(keyCode, new PendingKey(isPressed, timestampNanos));
+            overflowing = true;
+            overflowedEvents.incrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * Hand every pending event to the observer, oldest first (consumer thread
+     * only)
+     *
+     * @return Number of events delivered
+     */
+    public int drain(InputObserver observer) {
+        return drain(observer, Long.MAX_VALUE);
+    }
+
+    /**
+     * Hand the pending events stamped up to a given time to the observer,
+     * oldest first (consumer thread only), leaving later ones for the next
+     * call. A release immediately followed by a press of the same key, which
+     * is how some platforms report key auto-repeat, is coalesced away.
+     *
+     * @param untilNanos Latest event timestamp to deliver, on the
+     *                   {@link System#nanoTime()} time base
+     * @return Number of events delivered
+     */
+    public int drain(InputObserver observer, long untilNanos) {
+        long h = head.getPlain();
+        long t = tail.getAcquire();
+        int delivered = 0;
+
+        while (h < t && timestamps[(int) h & mask] <= untilNanos) {
+            int slot = (int) h & mask;
+            if (!pressed[slot] && h + 1 < t) {
+                int next = (int) (h + 1) & mask;
+                if (pressed[next] && keyCodes[next] == keyCodes[slot] && timestamps[next] <= untilNanos) {
+                    h += 2;
+                    continue;
+                }
+            }
+            observer.onInputChanged(keyCodes[slot], pressed[slot], timestamps[slot]);
+            delivered++;
+            h++;
+        }
+
+        head.setRelease(h);
+
+        // Overflowed events are newer than everything in the ring
+        if (h == t && overflowing) {
+            delivered += drainOverflow(observer, untilNanos);
+        }
+        return delivered;
+    }
+
+    private int drainOverflow(InputObserver observer, long untilNanos) {
+        synchronized (overflow) {
+            int delivered = 0;
+            Iterator<Map.Entry<Integer, PendingKey>> entries = overflow.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<Integer, PendingKey> entry = entries.next();
+                PendingKey key = entry.getValue();
+                // In order of last change, so every later entry is later too
+                if (key.timestampNanos > untilNanos) {
+                    break;
+                }
+                observer.onInputChanged(entry.getKey(), key.pressed, key.timestampNanos);
+                entries.remove();
+                delivered++;
+            }
+            overflowing = !overflow.isEmpty();
+            return delivered;
+        }
+    }
+
+    /**
+     * @return Events that did not fit in the ring because the consumer fell
+     *         behind, and were merged into the latest state of their key
+     */
+    public long getOverflowedEvents() {
+        return overflowedEvents.get();
+    }
+
+    private static class PendingKey {
+        private final boolean pressed;
+        private final long timestampNanos;
+
+        PendingKey(boolean pressed, long timestampNanos) {
+            this.pressed = pressed;
+            this.timestampNanos = timestampNanos;
+        }
+    }
+
+}
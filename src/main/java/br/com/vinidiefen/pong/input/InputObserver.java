@@ -1,7 +1,5 @@
 package br.com.vinidiefen.pong.input;
 
-import java.awt.event.KeyEvent;
-
 /**
  * Observer interface for input events
  */
@@ -10,8 +8,10 @@ public interface InputObserver {
     /**
      * Called when input state changes
      * 
-     * @param event The input event containing key states
+     * @param keyCode        Key code (KeyEvent.VK_*) of the key
+     * @param pressed        true when the key went down, false when released
+     * @param timestampNanos System.nanoTime() when the event was received
      */
-    void onInputChanged(KeyEvent event);
+    void onInputChanged(int keyCode, boolean pressed, long timestampNanos);
 
 }
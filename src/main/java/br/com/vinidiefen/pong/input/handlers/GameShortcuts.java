@@ -1,17 +1,29 @@
 package br.com.vinidiefen.pong.input.handlers;
 
-import java.awt.event.KeyEvent;
+import java.util.Objects;
+
 import br.com.vinidiefen.pong.constants.InputConstants;
 import br.com.vinidiefen.pong.input.InputObserver;
 
+/**
+ * Global shortcuts. The actions are supplied by the owner, which decides how
+ * and on which thread to carry them out.
+ */
 public class GameShortcuts implements InputObserver {
 
+    private final Runnable exitAction;
+
+    /**
+     * @param exitAction Run when the exit key is pressed
+     */
+    public GameShortcuts(Runnable exitAction) {
+        this.exitAction = Objects.requireNonNull(exitAction, "exitAction must not be null");
+    }
+
     @Override
-    public void onInputChanged(KeyEvent event) {
-        if (event.getID() == KeyEvent.KEY_PRESSED) {
-            if (event.getKeyCode() == InputConstants.EXIT_KEY) {
-                System.exit(0);
-            }
+    public void onInputChanged(int keyCode, boolean pressed, long timestampNanos) {
+        if (pressed && keyCode == InputConstants.EXIT_KEY) {
+            exitAction.run();
         }
     }
 
@@ -2,19 +2,46 @@ package br.com.vinidiefen.pong.input.handlers;
 
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
+import java.util.BitSet;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import br.com.vinidiefen.pong.input.InputEventQueue;
 import br.com.vinidiefen.pong.input.InputObserver;
 
 /**
- * Handles keyboard input and notifies observers (Subject in Observer pattern)
+ * Handles keyboard input and notifies observers (Subject in Observer pattern).
+ *
+ * Without a queue, observers are notified right away on the event dispatch
+ * thread. With an {@link InputEventQueue}, events are only recorded there and
+ * observers are notified when the owner calls {@link #dispatchQueuedInput()}
+ * from its own thread. Repeated presses of a key that is already down (OS
+ * auto-repeat) are dropped in both cases.
  */
 public class KeyboardHandler extends KeyAdapter {
 
     // Observers
     private final List<InputObserver> inputObservers = new CopyOnWriteArrayList<>();
 
+    // Keys currently held (event dispatch thread only)
+    private final BitSet keysDown = new BitSet();
+
+    // Null when observers are notified immediately
+    private final InputEventQueue queue;
+    private final InputObserver dispatcher = this::notifyObservers;
+
+    public KeyboardHandler() {
+        this(null);
+    }
+
+    /**
+     * @param queue Where events wait for {@link #dispatchQueuedInput()}, or
+     *              null to notify observers immediately
+     */
+    public KeyboardHandler(InputEventQueue queue) {
+        this.queue = queue;
+    }
+
     /**
      * Register an observer for left paddle input
      */
@@ -27,20 +54,56 @@ public class KeyboardHandler extends KeyAdapter {
 
     @Override
     public void keyPressed(KeyEvent e) {
-        notifyObservers(e);
+        int keyCode = e.getKeyCode();
+        if (keysDown.get(keyCode)) {
+            return; // Auto-repeat
+        }
+        keysDown.set(keyCode);
+        publish(keyCode, true);
     }
 
     @Override
     public void keyReleased(KeyEvent e) {
-        notifyObservers(e);
+        int keyCode = e.getKeyCode();
+        keysDown.clear(keyCode);
+        publish(keyCode, false);
+    }
+
+    private void publish(int keyCode, boolean pressed) {
+        long now = System.nanoTime();
+        if (queue != null) {
+            queue.offer(keyCode, pressed, now);
+        } else {
+            notifyObservers(keyCode, pressed, now);
+        }
+    }
+
+    /**
+     * Notify observers of every queued event, on the calling thread
+     *
+     * @return Number of events delivered
+     */
+    public int dispatchQueuedInput() {
+        return dispatchQueuedInput(Long.MAX_VALUE);
+    }
+
+    /**
+     * Notify observers of the queued events received up to a given time, on
+     * the calling thread
+     *
+     * @param untilNanos Latest event time to deliver ({@link System#nanoTime()})
+     * @return Number of events delivered
+     */
+    public int dispatchQueuedInput(long untilNanos) {
+        return queue != null ? queue.drain(dispatcher, untilNanos) : 0;
     }
 
     /**
      * Notify all observers about input changes
      */
-    private void notifyObservers(KeyEvent e) {
-        for (InputObserver observer : inputObservers) {
-            observer.onInputChanged(e);
+    private void notifyObservers(int keyCode, boolean pressed, long timestampNanos) {
+        for (int i = 0; i < inputObservers.size(); i++) {
+            inputObservers.get(i).onInputChanged(keyCode, pressed, timestampNanos);
         }
     }
 
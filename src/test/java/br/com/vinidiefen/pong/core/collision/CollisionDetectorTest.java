@@ -0,0 +1,67 @@
+package br.com.vinidiefen.pong.core.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.vinidiefen.pong.domain.entities.BallSwarm;
+import br.com.vinidiefen.pong.domain.entities.GameObject;
+
+class CollisionDetectorTest {
+
+    @Test
+    void observerRegisteredAfterArraysGrowIsNotified() {
+        CollisionDetector detector = new CollisionDetector();
+        Box first = new Box(0, 0);
+        detector.addCollisionObserver(first, new Box(100, 0), new Box(200, 0), new Box(300, 0));
+
+        // Fifth and sixth objects: the id arrays have to grow
+        Box second = new Box(500, 500);
+        Box target = new Box(505, 505);
+        detector.addCollisionObserver(second, target);
+
+        detector.checkCollision();
+
+        assertEquals(List.of(target), second.hits);
+        assertTrue(first.hits.isEmpty());
+    }
+
+    @Test
+    void collidableRegisteredAfterArraysGrowBouncesSwarmBalls() {
+        CollisionDetector detector = new CollisionDetector();
+        Box wall = new Box(400, 0);
+        detector.addCollisionObserver(new Box(0, 0), new Box(100, 0), new Box(200, 0), new Box(300, 0), wall);
+
+        BallSwarm swarm = new BallSwarm(1);
+        swarm.spawn(395, 2, 3, 0, 10);
+        detector.setBallSwarm(swarm);
+
+        detector.checkCollision();
+
+        assertTrue(swarm.getVelocityX(0) < 0, "ball should bounce off the fifth object");
+    }
+
+    /**
+     * Static 10x10 box that records what it collided with
+     */
+    private static class Box extends GameObject implements CollisionObserver {
+        private final List<GameObject> hits = new ArrayList<>();
+
+        Box(int x, int y) {
+            super(x, y, 10, 10);
+        }
+
+        @Override
+        public void update() {
+        }
+
+        @Override
+        public void onCollision(GameObject other) {
+            hits.add(other);
+        }
+    }
+}
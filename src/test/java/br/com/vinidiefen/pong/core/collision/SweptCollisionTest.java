@@ -0,0 +1,25 @@
+package br.com.vinidiefen.pong.core.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.vinidiefen.pong.core.physics.FixedPoint;
+
+class SweptCollisionTest {
+
+    @Test
+    void timeOfImpactIsAFixedPointFractionOfTheTick() {
+        // A 10 px box 20 px left of a wall, moving 40 px: touches after 20
+        assertEquals(FixedPoint.HALF, SweptCollision.timeOfImpact(0, 0, 10, 10, 40, 0, 30, 0, 10, 10));
+        // Moving 30 px: touches after 20, two thirds of the tick, rounded down
+        assertEquals(FixedPoint.ofRatio(2, 3), SweptCollision.timeOfImpact(0, 0, 10, 10, 30, 0, 30, 0, 10, 10));
+    }
+
+    @Test
+    void overlapAtTheStartIsZeroAndAMissIsNoHit() {
+        assertEquals(0, SweptCollision.timeOfImpact(0, 0, 10, 10, 5, 0, 5, 0, 10, 10));
+        assertEquals(SweptCollision.NO_HIT, SweptCollision.timeOfImpact(0, 0, 10, 10, 10, 0, 30, 0, 10, 10));
+        assertEquals(SweptCollision.NO_HIT, SweptCollision.timeOfImpact(0, 0, 10, 10, 40, 0, 30, 20, 10, 10));
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.vinidiefen.pong.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.vinidiefen.pong.core.metrics.EngineMetrics.Phase;
+
+class EngineMetricsTest {
+
+    @Test
+    void carriedTimeIsAddedToTheNextRecordOnly() {
+        EngineMetrics metrics = new EngineMetrics();
+        metrics.carryToNextRecord(Phase.INPUT, 1_000);
+        metrics.carryToNextRecord(Phase.INPUT, 2_000);
+
+        metrics.record(Phase.INPUT, 4_000);
+        metrics.record(Phase.INPUT, 5_000);
+
+        HistogramSnapshot input = metrics.getHistogram(Phase.INPUT).drain();
+        assertEquals(2, input.getCount());
+        assertEquals(7_000, input.getMax());
+        assertEquals(6_000, input.getMean());
+    }
+
+    @Test
+    void carriedTimeStaysInItsPhase() {
+        EngineMetrics metrics = new EngineMetrics();
+        metrics.carryToNextRecord(Phase.INPUT, 1_000);
+
+        metrics.record(Phase.UPDATE, 3_000);
+
+        assertEquals(3_000, metrics.getHistogram(Phase.UPDATE).drain().getMax());
+        assertEquals(0, metrics.getHistogram(Phase.INPUT).drain().getCount());
+    }
+}
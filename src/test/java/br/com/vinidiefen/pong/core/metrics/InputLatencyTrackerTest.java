@@ -0,0 +1,44 @@
+package br.com.vinidiefen.pong.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.vinidiefen.pong.core.engine.GameWorld;
+import br.com.vinidiefen.pong.core.engine.SnapshotBuffer;
+
+class InputLatencyTrackerTest {
+
+    @Test
+    void inputSurvivesASnapshotOverwrittenBeforeItIsPainted() {
+        EngineMetrics metrics = new EngineMetrics();
+        InputLatencyTracker tracker = new InputLatencyTracker(metrics);
+        GameWorld world = new GameWorld(800, 600);
+        SnapshotBuffer snapshots = new SnapshotBuffer();
+
+        tracker.inputReceived(1_000);
+        snapshots.publish(world, tracker.tickFinished(2_000));
+        // A catch-up tick replaces the unread snapshot
+        snapshots.publish(world, tracker.tickFinished(3_000));
+
+        tracker.framePresented(snapshots.acquire().getInputNanos(), 5_000);
+
+        assertEquals(1, metrics.getInputToTickHistogram().snapshot().getCount());
+        HistogramSnapshot display = metrics.getInputToDisplayHistogram().snapshot();
+        assertEquals(1, display.getCount());
+        assertEquals(4_000, display.getMax());
+    }
+
+    @Test
+    void repaintedSnapshotsCountOnce() {
+        EngineMetrics metrics = new EngineMetrics();
+        InputLatencyTracker tracker = new InputLatencyTracker(metrics);
+
+        tracker.inputReceived(1_000);
+        long inputNanos = tracker.tickFinished(2_000);
+        tracker.framePresented(inputNanos, 3_000);
+        tracker.framePresented(tracker.tickFinished(4_000), 5_000);
+
+        assertEquals(1, metrics.getInputToDisplayHistogram().snapshot().getCount());
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.vinidiefen.pong.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void snapshotKeepsCountsForLaterReaders() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        histogram.record(2_000);
+
+        assertEquals(2, histogram.snapshot().getCount());
+        histogram.record(3_000);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(3, snapshot.getCount());
+        assertEquals(3_000, snapshot.getMax());
+        assertEquals(2_000, snapshot.getMean());
+    }
+
+    @Test
+    void drainStartsANewInterval() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+
+        assertEquals(1, histogram.drain().getCount());
+        assertEquals(0, histogram.drain().getCount());
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.vinidiefen.pong.infrastructure.persistence.repositories.sql;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.vinidiefen.pong.infrastructure.persistence.models.MatchModel;
+import br.com.vinidiefen.pong.infrastructure.persistence.repositories.metadata.EntityMetadata;
+
+class DDLGeneratorTest {
+
+    @Test
+    void addColumnsUpgradesTablesCreatedBeforeSavedAt() {
+        EntityMetadata<MatchModel> metadata = new EntityMetadata<>(MatchModel.class);
+
+        List<String> statements = DDLGenerator.generateAddColumns(metadata);
+
+        assertTrue(statements.contains(
+                "ALTER TABLE matches ADD COLUMN IF NOT EXISTS saved_at BIGINT NOT NULL DEFAULT 0"));
+        assertTrue(statements.stream().noneMatch(statement -> statement.contains(" id UUID")));
+        assertTrue(DDLGenerator.generateCreateIndexes(metadata).stream()
+                .allMatch(statement -> statement.startsWith("CREATE INDEX IF NOT EXISTS ")));
+    }
+}
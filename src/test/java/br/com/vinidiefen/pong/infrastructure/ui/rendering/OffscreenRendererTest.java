@@ -0,0 +1,85 @@
+package br.com.vinidiefen.pong.infrastructure.ui.rendering;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import br.com.vinidiefen.pong.Main;
+import br.com.vinidiefen.pong.constants.GameMode;
+import br.com.vinidiefen.pong.constants.GameState;
+import br.com.vinidiefen.pong.core.engine.GameWorld;
+import br.com.vinidiefen.pong.core.engine.ManualClock;
+import br.com.vinidiefen.pong.core.simulation.PaddleControllers;
+
+/**
+ * Golden frames: the same seeded match must draw the same pixels every time
+ */
+class OffscreenRendererTest {
+
+    private static final long SEED = 42L;
+    private static final int[] GOLDEN_TICKS = { 0, 30, 120, 400 };
+
+    @BeforeAll
+    static void useGameFont() {
+        System.setProperty("java.awt.headless", "true");
+        Main.configureDefaultFont();
+    }
+
+    @Test
+    void seededClassicMatchDrawsTheSameFrames() {
+        assertSameFrames(render(GameMode.CLASSIC), render(GameMode.CLASSIC));
+    }
+
+    @Test
+    void seededMultiBallMatchDrawsTheSameFrames() {
+        assertSameFrames(render(GameMode.MULTI_BALL), render(GameMode.MULTI_BALL));
+    }
+
+    @Test
+    void framesFollowTheMatch() {
+        List<int[]> frames = render(GameMode.CLASSIC);
+
+        assertFalse(Arrays.equals(frames.get(0), frames.get(1)));
+    }
+
+    /**
+     * Pixels of the frames at GOLDEN_TICKS, then of the game over screen
+     */
+    private static List<int[]> render(GameMode mode) {
+        GameWorld world = new GameWorld(640, 360, new ManualClock(), mode, SEED);
+        world.setControllers(PaddleControllers.tracking(25), PaddleControllers.tracking(25));
+        OffscreenRenderer renderer = new OffscreenRenderer(world);
+        List<int[]> frames = new ArrayList<>();
+        try {
+            long tick = 0;
+            for (int goldenTick : GOLDEN_TICKS) {
+                for (; tick < goldenTick; tick++) {
+                    world.tick();
+                }
+                frames.add(pixels(renderer.render()));
+            }
+            frames.add(pixels(renderer.render(GameState.GAME_OVER)));
+        } finally {
+            renderer.dispose();
+        }
+        return frames;
+    }
+
+    private static int[] pixels(BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    private static void assertSameFrames(List<int[]> expected, List<int[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(-1, Arrays.mismatch(expected.get(i), actual.get(i)), "frame " + i + " differs");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.vinidiefen.pong.input;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class InputEventQueueTest {
+
+    private static final int UP = 87;
+    private static final int DOWN = 83;
+
+    private final List<String> delivered = new ArrayList<>();
+    private final InputObserver recorder = (keyCode, pressed, timestamp) ->
+            delivered.add(keyCode + (pressed ? " down" : " up") + " @" + timestamp);
+
+    @Test
+    void drainStopsAtTheGivenTime() {
+        InputEventQueue queue = new InputEventQueue(8);
+        queue.offer(UP, true, 10);
+        queue.offer(UP, false, 20);
+        queue.offer(DOWN, true, 30);
+
+        assertEquals(1, queue.drain(recorder, 15));
+        assertEquals(List.of("87 down @10"), delivered);
+
+        assertEquals(2, queue.drain(recorder, 30));
+        assertEquals(List.of("87 down @10", "87 up @20", "83 down @30"), delivered);
+    }
+
+    @Test
+    void releaseIsNotLostWhenTheQueueIsFull() {
+        InputEventQueue queue = new InputEventQueue(2);
+        queue.offer(UP, true, 1);
+        queue.offer(DOWN, true, 2);
+        // Ring is full from here on
+        queue.offer(UP, false, 3);
+        queue.offer(DOWN, false, 4);
+        queue.offer(DOWN, true, 5);
+        queue.offer(DOWN, false, 6);
+
+        queue.drain(recorder);
+
+        assertEquals(List.of("87 down @1", "83 down @2", "87 up @3", "83 up @6"), delivered);
+        assertEquals(4, queue.getOverflowedEvents());
+    }
+
+    @Test
+    void eventsAfterAnOverflowWaitForIt() {
+        InputEventQueue queue = new InputEventQueue(1);
+        queue.offer(UP, true, 1);
+        queue.offer(UP, false, 2);
+
+        // Only the ring event is due; the overflowed release stays queued
+        queue.drain(recorder, 1);
+        assertEquals(List.of("87 down @1"), delivered);
+
+        // The ring has room again, but newer events must not pass the overflow
+        assertFalse(queue.offer(DOWN, true, 3));
+        queue.drain(recorder);
+        assertEquals(List.of("87 down @1", "87 up @2", "83 down @3"), delivered);
+    }
+}